@@ -2,6 +2,7 @@ package com.beyond.university.auth.controller;
 
 import com.beyond.university.auth.model.dto.LoginResponse;
 import com.beyond.university.auth.model.dto.LoginRequestDto;
+import com.beyond.university.auth.model.dto.RefreshResult;
 import com.beyond.university.auth.model.service.AuthService;
 import com.beyond.university.auth.model.service.JwtCookieService;
 import com.beyond.university.common.model.dto.BaseResponseDto;
@@ -66,6 +67,11 @@ public class AuthController {
                     responseCode = "500",
                     description = "INTERNAL SERVER ERROR",
                     content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "SERVICE UNAVAILABLE",
+                    content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             )
     })
     public ResponseEntity<BaseResponseDto<LoginResponse>> login(
@@ -141,9 +147,16 @@ public class AuthController {
     public ResponseEntity<BaseResponseDto<LoginResponse>> refreshToken(
         @Parameter(hidden = true) @CookieValue(name = "refresh_token", defaultValue = "") String refreshToken){
 
-        LoginResponse loginResponse = authService.refreshAccessToken(refreshToken);
+        RefreshResult refreshResult = authService.refreshAccessToken(refreshToken);
+
+        // 리프레시 토큰(Refresh Token)은 재발급할 때마다 교체되기 때문에 새 토큰을 쿠키로 전달한다.
+        ResponseCookie cookie = jwtCookieService.createRefreshTokenCookie(refreshResult.getRefreshToken(), Duration.ofDays(1));
+        HttpHeaders headers = jwtCookieService.createRefreshTokenCookieHeaders(cookie);
 
-        return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, loginResponse));
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .body(new BaseResponseDto<>(HttpStatus.OK, refreshResult.getLoginResponse()));
     }
 
 
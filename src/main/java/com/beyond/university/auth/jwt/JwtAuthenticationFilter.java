@@ -29,9 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = jwtTokenProvider.resolveToken(request.getHeader("Authorization"));
 
         // 2. 추출한 토큰의 무결성과 유효성을 검증 & 블랙리스트 확인 & 엑세스 토큰 확인
-        if (jwtTokenProvider.isUsableAccessToken(token)) {
+        //    토큰은 한 번만 파싱하고 검증된 결과(VerifiedToken)를 이후 단계에서 공유한다.
+        VerifiedToken verifiedToken = jwtTokenProvider.getUsableAccessToken(token);
+
+        if (verifiedToken != null) {
             // 3. Authentication 객체를 생성
-            Authentication authentication = jwtTokenProvider.createAuthentication(token);
+            Authentication authentication = jwtTokenProvider.createAuthentication(verifiedToken);
 
             // 4. Authentication 객체를 SecurityContext 객체에 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,16 +1,26 @@
 package com.beyond.university.auth.jwt;
 
+import com.beyond.university.auth.metrics.AuthMetrics;
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.jfr.JwtVerificationEvent;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.config.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /*
@@ -23,8 +33,12 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RevokedTokenCache revokedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthMetrics authMetrics;
     private static final long ACCESS_TOKEN_EXPIRATION = 1000L * 60L * 15; // 15분
     private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60L * 60L * 24L; // 1일
 
@@ -35,19 +49,63 @@ public class JwtTokenProvider {
         return jwtUtil.createJwtToken(claims, ACCESS_TOKEN_EXPIRATION);
     }
 
-    // 리프레시 토큰(Refresh Token)을 생성하는 메소드
+    // 리프레시 토큰(Refresh Token)을 생성하는 메소드 (로그인할 때마다 새로운 family를 만든다.)
     public String createRefreshToken(String username) {
-        Map<String, Object> claims = Map.of("username", username, "token_type", "refresh");
-        String refreshToken = jwtUtil.createJwtToken(claims, REFRESH_TOKEN_EXPIRATION);
+        String family = UUID.randomUUID().toString();
+        String refreshToken = issueRefreshToken(username, family);
 
         // 레디스(Redis)에 리프레시 토큰(Refresh Token)을 저장
         // 리프레시 토큰(Refresh Token)의 만료 시간 동안만 Redis에 토큰을 저장
-        redisTemplate.opsForValue().set(
-                "refresh:" + username, refreshToken, REFRESH_TOKEN_EXPIRATION, TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start();
+
+        try {
+            refreshTokenStore.save(username, family, jwtUtil.getJti(refreshToken), REFRESH_TOKEN_EXPIRATION);
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.RedisOperation.REFRESH_SAVE);
+        }
 
         return refreshToken;
     }
 
+    // 리프레시 토큰(Refresh Token)을 새 토큰으로 교체하는 메소드
+    // 저장된 토큰 확인과 교체는 Redis 스크립트로 한 번에 처리되기 때문에 동시에 요청해도 하나의 요청만 성공한다.
+    // 이미 교체된 토큰이 다시 사용되면 토큰 family 전체를 폐기한다.
+    public String rotateRefreshToken(VerifiedToken refreshToken) {
+        String username = refreshToken.getUsername();
+        String family = refreshToken.getFamily();
+
+        if (family == null) {
+            throw new UniversityException(ExceptionMessage.REFRESH_TOKEN_INVALID);
+        }
+
+        String newRefreshToken = issueRefreshToken(username, family);
+        RefreshTokenStore.Outcome outcome;
+        Timer.Sample sample = Timer.start();
+
+        try {
+            outcome = refreshTokenStore.rotate(
+                    username, family, refreshToken.getJti(), jwtUtil.getJti(newRefreshToken), REFRESH_TOKEN_EXPIRATION);
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.RedisOperation.REFRESH_ROTATE);
+        }
+
+        if (outcome == RefreshTokenStore.Outcome.REUSED) {
+            log.warn("Refresh token reuse detected, token family revoked. username={}", username);
+        }
+
+        if (outcome != RefreshTokenStore.Outcome.ROTATED) {
+            throw new UniversityException(ExceptionMessage.REFRESH_TOKEN_INVALID);
+        }
+
+        return newRefreshToken;
+    }
+
+    private String issueRefreshToken(String username, String family) {
+        Map<String, Object> claims = Map.of("username", username, "token_type", "refresh", "family", family);
+
+        return jwtUtil.createJwtToken(claims, REFRESH_TOKEN_EXPIRATION);
+    }
+
 
     // 클라이언트가 헤더를 통해 서버로 전달한 토큰을 추출하는 메소드
     public String resolveToken(String bearerToken) {
@@ -61,54 +119,128 @@ public class JwtTokenProvider {
     // 액세스 토큰(Access Token)의 무결성과 유효성을 검증하는 메소드 & 블랙리스트 확인 & 엑세스 토큰 확인
     public boolean isUsableAccessToken(String accessToken) {
 
-        return accessToken != null
-                && jwtUtil.validateToken(accessToken)
-                && !isBlacklisted(accessToken)
-                && isAccessToken(accessToken);
+        return getUsableAccessToken(accessToken) != null;
+    }
+
+    // 액세스 토큰(Access Token)을 한 번만 파싱해서 사용 가능한 경우 VerifiedToken 객체를 반환하는 메소드 (사용할 수 없으면 null 반환)
+    public VerifiedToken getUsableAccessToken(String accessToken) {
+        if (accessToken == null) {
+            return null;
+        }
+
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        String outcome = JwtVerificationEvent.INVALID;
+
+        event.begin();
+
+        try {
+            VerifiedToken verifiedToken;
+            Timer.Sample parseSample = Timer.start();
+
+            try {
+                verifiedToken = jwtUtil.verify(accessToken);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Invalid access token : {}", e.getMessage());
+
+                return null;
+            } finally {
+                authMetrics.stop(parseSample, AuthMetrics.Stage.PARSE);
+            }
+
+            if (verifiedToken.isExpired()) {
+                outcome = JwtVerificationEvent.EXPIRED;
+
+                return null;
+            }
+
+            if (!verifiedToken.isAccessToken()) {
+                outcome = JwtVerificationEvent.NOT_ACCESS;
+
+                return null;
+            }
+
+            Timer.Sample blacklistSample = Timer.start();
+
+            try {
+                if (isBlacklisted(verifiedToken)) {
+                    outcome = JwtVerificationEvent.BLACKLISTED;
+
+                    return null;
+                }
+
+                outcome = JwtVerificationEvent.VALID;
+
+                return verifiedToken;
+            } finally {
+                authMetrics.stop(blacklistSample, AuthMetrics.Stage.BLACKLIST);
+            }
+        } finally {
+            event.finish(outcome);
+        }
     }
 
     // SecurityContext 객체에 저장될 Authentication 객체를 생성하는 메소드
     public Authentication createAuthentication(String accessToken) {
-        String username = jwtUtil.getUsername(accessToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        return createAuthentication(jwtUtil.verify(accessToken));
+    }
+
+    // 검증된 토큰으로 SecurityContext 객체에 저장될 Authentication 객체를 생성하는 메소드
+    public Authentication createAuthentication(VerifiedToken verifiedToken) {
+        if (jwtProperties.isStatelessAuthentication()) {
+            // 사용자 정보를 조회하지 않고 토큰의 클레임(username, roles)으로 Authentication 객체를 생성
+            List<GrantedAuthority> authorities = verifiedToken.getRoles().stream()
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
+
+            return new UsernamePasswordAuthenticationToken(verifiedToken.getUsername(), null, authorities);
+        }
+
+        UserDetails userDetails;
+        Timer.Sample sample = Timer.start();
+
+        try {
+            userDetails = userDetailsService.loadUserByUsername(verifiedToken.getUsername());
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.Stage.USER_LOAD);
+        }
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
     // 로그아웃 시 블랙리스트에 액세스 토큰(Access Token)을 저장하는 메소드
     public void addBlacklist(String accessToken) {
-        String key = "blacklist:" + jwtUtil.getJti(accessToken);
+        String jti = jwtUtil.getJti(accessToken);
 
         // 액세스 토큰(Access Token)의 만료 시간 동안만 Redis에 토큰을 저장
-        redisTemplate.opsForValue().set(key, accessToken, ACCESS_TOKEN_EXPIRATION, TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start();
+
+        try {
+            redisTemplate.opsForValue().set("blacklist:" + jti, accessToken, ACCESS_TOKEN_EXPIRATION, TimeUnit.MILLISECONDS);
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.RedisOperation.BLACKLIST_SET);
+        }
+
+        // 로컬 캐시에 등록하고 다른 노드에 전파
+        revokedTokenCache.revoke(jti, ACCESS_TOKEN_EXPIRATION);
     }
 
     // 리프레시 토큰(Refresh Token)을 삭제하는 메소드
     public void deleteRefreshToken(String accessToken) {
         String username = jwtUtil.getUsername(accessToken);
+        Timer.Sample sample = Timer.start();
 
-        redisTemplate.delete("refresh:" + username);
-    }
-
-    // 리프레시 토큰의 유효성을 검증하는 메소드
-    public boolean isValidRefreshToken(String refreshToken) {
-        String username = jwtUtil.getUsername(refreshToken);
-        String storedRefreshToken = redisTemplate.opsForValue().get("refresh:" + username);
-
-        return storedRefreshToken != null && storedRefreshToken.equals(refreshToken);
-    }
-
-    // 블랙리스트 등록 여부를 확인하는 메소드
-    private boolean isBlacklisted(String accessToken) {
-        String key = "blacklist:" + jwtUtil.getJti(accessToken);
-
-        return redisTemplate.hasKey(key);
+        try {
+            refreshTokenStore.delete(username);
+        } finally {
+            authMetrics.stop(sample, AuthMetrics.RedisOperation.REFRESH_DELETE);
+        }
     }
 
-    // 액세스 토큰(Access Token) 여부를 확인하는 메소드
-    private boolean isAccessToken(String accessToken) {
+    // 블랙리스트 등록 여부를 확인하는 메소드 (일반적인 경우 Redis에 접근하지 않고 로컬 캐시에서 확인한다.)
+    private boolean isBlacklisted(VerifiedToken verifiedToken) {
 
-        return jwtUtil.getTokenType(accessToken).equals("access");
+        return revokedTokenCache.isRevoked(verifiedToken.getJti());
     }
 
 
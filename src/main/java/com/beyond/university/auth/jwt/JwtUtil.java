@@ -1,10 +1,11 @@
 package com.beyond.university.auth.jwt;
 
+import com.beyond.university.common.id.IdAllocator;
 import com.beyond.university.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,20 +14,25 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 /*
     JwtUtil
       - JWT(JSON Web Token)와 관련된 유틸리티 역할을 하는 클래스이다.
       - JWT(JSON Web Token) 토큰 생성, 클레임 파싱, 유효성 검사 등을 수행한다.
+      - 토큰은 verify() 메소드에서 한 번만 파싱하고, 검증된 결과는 VerifiedTokenCache에 보관한다.
  */
 @Slf4j
 @Component
 public class JwtUtil {
     private final String issuer;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final IdAllocator idAllocator;
 
-    public JwtUtil(JwtProperties jwtProperties) {
+    public JwtUtil(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache, IdAllocator idAllocator) {
         log.info("JWT Issuer: {}", jwtProperties.getIssuer());
         log.info("JWT Secret: {}", jwtProperties.getSecret());
 
@@ -35,6 +41,10 @@ public class JwtUtil {
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        // JwtParser는 불변 객체이고 스레드에 안전하기 때문에 한 번만 생성해서 재사용한다.
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.idAllocator = idAllocator;
     }
 
     // JWT(JSON Web Token) 토큰을 생성하는 메소드
@@ -43,7 +53,7 @@ public class JwtUtil {
         return Jwts.builder()
                 .header().add("typ", "JWT").and() // typ 헤더 추가
                 .claims(claims) // 공개 클래임
-                .id(Long.toHexString(System.nanoTime())) // jti(JWT ID) 클래임
+                .id(Long.toHexString(idAllocator.next("jti", JwtUtil::jtiSeed))) // jti(JWT ID) 클래임 (모든 노드에서 중복되지 않는 번호)
                 .issuer(issuer) // 발급 주체
                 .issuedAt(new Date()) // 발급 시간
                 .expiration(new Date(System.currentTimeMillis() + expiration)) // 만료 시간
@@ -51,41 +61,64 @@ public class JwtUtil {
                 .compact();
     }
 
+    // jti 카운터가 없을 때(Redis에서 키가 제거된 경우 포함) 초기화할 값을 반환하는 메소드
+    // 현재 시간(ms)에 1024를 곱한 값으로 초기화해서 이전에 발급한(블랙리스트에 등록되었을 수 있는) jti를 다시 발급하지 않는다.
+    private static long jtiSeed() {
+
+        return System.currentTimeMillis() << 10;
+    }
+
     // 클래임에서 username을 추출하는 메소드
     public String getUsername(String token) {
 
-        return getClaims(token).get("username", String.class);
+        return verify(token).getUsername();
     }
 
     // 클래임에서 토큰 타입(Token Type)을 추출하는 메소드
     public String getTokenType(String token) {
 
-        return getClaims(token).get("token_type", String.class);
+        return verify(token).getTokenType();
     }
 
     // 클래임에서 JTI(JWT ID)를 추출하는 메소드
     public String getJti(String token) {
 
-        return getClaims(token).getId();
+        return verify(token).getJti();
     }
 
     // 클래임에서 발급 시간(IssuedAt)을 추출하는 메소드
     public long getIssuedAt(String token) {
 
-        return getClaims(token).getIssuedAt().getTime();
+        return verify(token).getIssuedAt();
     }
 
     // 클래임에서 만료 시간(Expiration)을 추출하는 메소드
     public long getExpiration(String token) {
 
-        return getClaims(token).getExpiration().getTime();
+        return verify(token).getExpiration();
     }
 
     // 토큰이 유효한지 확인하는 메소드 (토큰이 유효하면 true, 만료되었으면 false 반환)
     public boolean validateToken(String token) {
 
         // JWT의 만료 시간(Expiration)을 가져와서 현재 시간과 비교하여 토큰이 만료되었는지 확인
-        return !getClaims(token).getExpiration().before(new Date());
+        return !verify(token).isExpired();
+    }
+
+    // 토큰의 서명을 한 번만 검증하고 클래임을 VerifiedToken 객체로 변환하는 메소드
+    // 서명이 올바르지 않거나 형식이 잘못된 토큰은 JwtException 예외가 발생한다.
+    public VerifiedToken verify(String token) {
+        VerifiedToken verifiedToken = verifiedTokenCache.get(token);
+
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+
+        verifiedToken = toVerifiedToken(getClaims(token));
+
+        verifiedTokenCache.put(token, verifiedToken);
+
+        return verifiedToken;
     }
 
     // JWT(JSON Web Token)에서 클래임을 추출하는 메소드
@@ -93,14 +126,25 @@ public class JwtUtil {
         // 토큰이 만료되면 parseSignedClaims() 메소드에서
         // ExpiredJwtException 예외가 발생하여 코드가 실행되지 않기 때문에 아래와 같이 예외 처리를 한다.
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+
+        return new VerifiedToken(
+                claims.get("username", String.class),
+                claims.get("token_type", String.class),
+                claims.getId(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                claims.get("family", String.class),
+                claims.getIssuedAt().getTime(),
+                claims.getExpiration().getTime()
+        );
+    }
 }
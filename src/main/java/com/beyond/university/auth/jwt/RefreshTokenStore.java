@@ -0,0 +1,67 @@
+package com.beyond.university.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    RefreshTokenStore
+      - 레디스(Redis)에 사용자별 리프레시 토큰(Refresh Token)을 "{family}:{jti}" 형식으로 저장한다.
+      - family는 로그인할 때 만들어지고, 토큰을 교체(rotate)해도 유지된다.
+      - 토큰 교체는 Lua 스크립트(scripts/rotate-refresh-token.lua)로 한 번의 왕복에서 원자적으로 처리한다.
+        (저장된 토큰 확인 -> 새 토큰으로 교체 -> 결과 반환)
+      - 동시에 같은 토큰으로 교체를 요청하면 하나의 요청만 성공한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:";
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum Outcome {
+        ROTATED, REUSED, INVALID
+    }
+
+    // 새 family의 리프레시 토큰을 저장하는 메소드 (기존 family는 폐기된다.)
+    public void save(String username, String family, String jti, long expiration) {
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + username, family + ":" + jti, expiration, TimeUnit.MILLISECONDS);
+    }
+
+    // 전달받은 토큰(presentedJti)을 새 토큰(newJti)으로 교체하는 메소드
+    public Outcome rotate(String username, String family, String presentedJti, String newJti, long expiration) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(KEY_PREFIX + username),
+                family + ":" + presentedJti,
+                family + ":" + newJti,
+                String.valueOf(expiration),
+                family
+        );
+
+        if (result == null) {
+            return Outcome.INVALID;
+        }
+
+        return switch (result.intValue()) {
+            case 1 -> Outcome.ROTATED;
+            case 2 -> Outcome.REUSED;
+            default -> Outcome.INVALID;
+        };
+    }
+
+    // 사용자의 리프레시 토큰을 삭제하는 메소드
+    public void delete(String username) {
+
+        redisTemplate.delete(KEY_PREFIX + username);
+    }
+}
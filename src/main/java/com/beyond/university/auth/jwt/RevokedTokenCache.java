@@ -0,0 +1,214 @@
+package com.beyond.university.auth.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    RevokedTokenCache
+      - 블랙리스트에 등록된 액세스 토큰(Access Token)의 JTI를 노드 로컬 메모리에 보관하는 캐시이다.
+      - 확률적 필터(Bloom Filter)와 JTI의 정확한 만료 시간을 담은 Map으로 구성된다.
+      - 대부분의 토큰은 블랙리스트에 없기 때문에 필터만 확인하고 Redis에 접근하지 않는다.
+      - 블랙리스트 등록은 Redis Pub/Sub("blacklist" 채널)으로 모든 노드에 전달되고,
+        채널을 구독(재연결 후 다시 구독하는 경우 포함)할 때마다 Redis에 저장된 블랙리스트 전체를 불러온다.
+      - 구독이 끊긴 동안에는 메시지를 놓칠 수 있으므로 동기화되지 않은 상태로 보고 Redis에 직접 확인한다.
+      - Pub/Sub 메시지는 전달이 보장되지 않기 때문에 주기적으로 전체 목록을 다시 불러온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenCache implements MessageListener, SubscriptionListener {
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("blacklist");
+    private static final int FILTER_BITS = 1 << 20;
+    private static final int FILTER_HASHES = 4;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // JTI -> 블랙리스트 만료 시간(ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter();
+    private volatile boolean synced = false;
+    // 동기화 상태가 무효화될 때마다 증가한다. 불러오는 도중에 무효화되면 동기화된 것으로 보지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @PostConstruct
+    public void subscribe() {
+        // 전체 목록을 불러오기 전에 먼저 구독해서 그 사이에 등록된 블랙리스트를 놓치지 않도록 한다.
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    // Redis에 저장된 블랙리스트 전체를 불러오는 메소드
+    public void load() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+
+        loadLock.lock();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            long current = generation.get();
+
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+
+                if (ttl != null && ttl > 0) {
+                    addLocal(key.substring(KEY_PREFIX.length()), ttl);
+                }
+            }
+
+            synced = generation.get() == current;
+
+            log.info("Revoked token cache loaded. size={}, synced={}", revoked.size(), synced);
+        } catch (RuntimeException e) {
+            invalidate();
+
+            log.warn("Failed to load revoked tokens, falling back to Redis lookups : {}", e.getMessage());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // 블랙리스트에 JTI를 등록하고 다른 노드에 전파하는 메소드
+    public void revoke(String jti, long ttlMillis) {
+        addLocal(jti, ttlMillis);
+
+        redisTemplate.convertAndSend(CHANNEL.getTopic(), jti + ":" + ttlMillis);
+    }
+
+    // 블랙리스트 등록 여부를 확인하는 메소드
+    public boolean isRevoked(String jti) {
+        if (!synced) {
+            return redisTemplate.hasKey(KEY_PREFIX + jti);
+        }
+
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+
+        Long expiresAt = revoked.get(jti);
+
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 다른 노드에서 전파된 블랙리스트 등록 메시지를 처리하는 메소드
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+
+        try {
+            addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Invalid blacklist message : {}", body);
+        }
+    }
+
+    // 채널을 (다시) 구독하면 구독이 끊긴 동안 놓친 메시지를 복구하기 위해 전체 목록을 다시 불러온다.
+    // 컨테이너의 작업 스레드에서 호출되기 때문에 Redis 명령을 실행해도 된다.
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        invalidate();
+        load();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        invalidate();
+    }
+
+    // 주기적으로 전체 목록을 다시 불러오는 메소드
+    // 구독하고 있지 않으면 메시지를 받을 수 없으므로 동기화되지 않은 상태로 두고 Redis에 직접 확인한다.
+    @Scheduled(initialDelayString = "${jwt.blacklist-resync-interval:300000}", fixedDelayString = "${jwt.blacklist-resync-interval:300000}")
+    public void resync() {
+        if (!redisMessageListenerContainer.isListening()) {
+            invalidate();
+
+            return;
+        }
+
+        load();
+    }
+
+    // 만료된 JTI를 제거하고 필터를 다시 만드는 메소드 (Bloom Filter는 항목을 제거할 수 없기 때문에 새로 만든다.)
+    @Scheduled(fixedDelay = 60_000L)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        BloomFilter rebuilt = new BloomFilter();
+
+        revoked.entrySet().removeIf(entry -> entry.getValue() <= now);
+        revoked.keySet().forEach(rebuilt::put);
+
+        filter = rebuilt;
+        // 교체하는 사이에 추가된 JTI를 새 필터에도 반영한다.
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        synced = false;
+    }
+
+    private void addLocal(String jti, long ttlMillis) {
+        revoked.merge(jti, System.currentTimeMillis() + ttlMillis, Long::max);
+        filter.put(jti);
+    }
+
+    private static final class BloomFilter {
+        private final AtomicLongArray bits = new AtomicLongArray(FILTER_BITS / Long.SIZE);
+
+        void put(String value) {
+            int hash1 = value.hashCode();
+            int hash2 = spread(hash1);
+
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int index = Math.floorMod(hash1 + i * hash2, FILTER_BITS);
+                long mask = 1L << (index & 63);
+
+                bits.getAndAccumulate(index >>> 6, mask, (current, bit) -> current | bit);
+            }
+        }
+
+        boolean mightContain(String value) {
+            int hash1 = value.hashCode();
+            int hash2 = spread(hash1);
+
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int index = Math.floorMod(hash1 + i * hash2, FILTER_BITS);
+
+                if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+
+            return hash | 1;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.beyond.university.auth.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+    VerifiedToken
+      - 서명 검증이 끝난 JWT(JSON Web Token)의 클레임을 담는 불변 객체이다.
+      - 토큰을 한 번만 파싱하고 필터, 블랙리스트 확인, Authentication 생성에서 같은 객체를 공유한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class VerifiedToken {
+    private final String username;
+
+    private final String tokenType;
+
+    private final String jti;
+
+    private final List<String> roles;
+
+    // 리프레시 토큰(Refresh Token)의 family (액세스 토큰은 null)
+    private final String family;
+
+    private final long issuedAt;
+
+    private final long expiration;
+
+    // 토큰이 만료되었는지 확인하는 메소드
+    public boolean isExpired() {
+
+        return expiration < System.currentTimeMillis();
+    }
+
+    // 액세스 토큰(Access Token) 여부를 확인하는 메소드
+    public boolean isAccessToken() {
+
+        return "access".equals(tokenType);
+    }
+
+    // 리프레시 토큰(Refresh Token) 여부를 확인하는 메소드
+    public boolean isRefreshToken() {
+
+        return "refresh".equals(tokenType);
+    }
+}
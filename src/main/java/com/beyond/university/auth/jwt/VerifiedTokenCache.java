@@ -0,0 +1,81 @@
+package com.beyond.university.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/*
+    VerifiedTokenCache
+      - 최근에 검증한 토큰을 보관하는 크기 제한 캐시이다.
+      - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하고, 각 항목은 토큰의 만료 시간에 맞춰 제거된다.
+      - 같은 토큰으로 반복되는 요청은 서명 검증(HMAC) 없이 캐시에서 VerifiedToken 객체를 가져온다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 캐시에서 검증된 토큰을 조회하는 메소드 (없으면 null 반환)
+    public VerifiedToken get(String token) {
+
+        return cache.getIfPresent(digest(token));
+    }
+
+    // 검증된 토큰을 캐시에 저장하는 메소드 (만료된 토큰은 저장하지 않는다.)
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (!verifiedToken.isExpired()) {
+            cache.put(digest(token), verifiedToken);
+        }
+    }
+
+    // 캐시에서 토큰을 제거하는 메소드
+    public void invalidate(String token) {
+
+        cache.invalidate(digest(token));
+    }
+
+    private static long remainingNanos(VerifiedToken value) {
+        long remainingMillis = value.getExpiration() - System.currentTimeMillis();
+
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.beyond.university.auth.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+    AuthMetrics
+      - 인증 관련 메트릭을 시작할 때 모두 등록해 두고 요청마다 레지스트리를 조회하지 않고 사용한다.
+        1. auth.filter.stage : JwtAuthenticationFilter의 단계별 처리 시간 (parse, blacklist, user_load)
+        2. auth.redis : JwtTokenProvider의 Redis 작업 시간 (blacklist_set, refresh_save, refresh_rotate, refresh_delete)
+        3. login.attempts : 로그인 결과별 횟수 (success, invalid_credentials, unavailable, error)
+      - 태그 값은 열거형으로 고정되어 있기 때문에 시계열의 수가 늘어나지 않는다. (사용자 이름 등은 태그로 사용하지 않는다.)
+ */
+@Component
+public class AuthMetrics {
+    public enum Stage {
+        PARSE, BLACKLIST, USER_LOAD
+    }
+
+    public enum RedisOperation {
+        BLACKLIST_SET, REFRESH_SAVE, REFRESH_ROTATE, REFRESH_DELETE
+    }
+
+    public enum LoginOutcome {
+        SUCCESS, INVALID_CREDENTIALS, UNAVAILABLE, ERROR
+    }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<RedisOperation, Timer> redisTimers = new EnumMap<>(RedisOperation.class);
+    private final Map<LoginOutcome, Counter> loginCounters = new EnumMap<>(LoginOutcome.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("auth.filter.stage")
+                    .description("JWT 인증 필터의 단계별 처리 시간")
+                    .tag("stage", tagValue(stage))
+                    .register(meterRegistry));
+        }
+
+        for (RedisOperation operation : RedisOperation.values()) {
+            redisTimers.put(operation, Timer.builder("auth.redis")
+                    .description("인증 관련 Redis 작업 시간")
+                    .tag("operation", tagValue(operation))
+                    .register(meterRegistry));
+        }
+
+        for (LoginOutcome outcome : LoginOutcome.values()) {
+            loginCounters.put(outcome, Counter.builder("login.attempts")
+                    .description("로그인 결과별 요청 수")
+                    .tag("outcome", tagValue(outcome))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void stop(Timer.Sample sample, Stage stage) {
+
+        sample.stop(stageTimers.get(stage));
+    }
+
+    public void stop(Timer.Sample sample, RedisOperation operation) {
+
+        sample.stop(redisTimers.get(operation));
+    }
+
+    public void login(LoginOutcome outcome) {
+
+        loginCounters.get(outcome).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
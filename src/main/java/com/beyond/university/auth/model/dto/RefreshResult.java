@@ -0,0 +1,15 @@
+package com.beyond.university.auth.model.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RefreshResult {
+    private final LoginResponse loginResponse;
+
+    // 교체된 새 리프레시 토큰(Refresh Token)
+    private final String refreshToken;
+}
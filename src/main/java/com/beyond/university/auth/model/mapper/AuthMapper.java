@@ -7,4 +7,8 @@ import org.apache.ibatis.annotations.Param;
 @Mapper
 public interface AuthMapper {
     User selectUserById(@Param("id") String id);
+
+    User selectUserDetailsById(@Param("id") String id);
+
+    int updatePassword(@Param("id") String id, @Param("password") String password);
 }
\ No newline at end of file
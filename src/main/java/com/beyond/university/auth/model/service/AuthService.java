@@ -1,6 +1,7 @@
 package com.beyond.university.auth.model.service;
 
 import com.beyond.university.auth.model.dto.LoginResponse;
+import com.beyond.university.auth.model.dto.RefreshResult;
 
 public interface AuthService {
     LoginResponse login(String username, String password);
@@ -9,6 +10,6 @@ public interface AuthService {
 
     String createRefreshToken(String username);
 
-    LoginResponse refreshAccessToken(String refreshToken);
+    RefreshResult refreshAccessToken(String refreshToken);
 
 }
@@ -2,14 +2,20 @@ package com.beyond.university.auth.model.service;
 
 import com.beyond.university.auth.jwt.JwtTokenProvider;
 import com.beyond.university.auth.jwt.JwtUtil;
+import com.beyond.university.auth.jwt.VerifiedToken;
 import com.beyond.university.auth.model.dto.LoginResponse;
+import com.beyond.university.auth.model.dto.RefreshResult;
 import com.beyond.university.auth.model.mapper.AuthMapper;
+import com.beyond.university.auth.metrics.AuthMetrics;
 import com.beyond.university.auth.model.vo.User;
 import com.beyond.university.common.exception.UniversityException;
 import com.beyond.university.common.exception.message.ExceptionMessage;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,23 +24,40 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
     private final AuthMapper authMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginPasswordVerifier loginPasswordVerifier;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+    private final AuthMetrics authMetrics;
 
     @Override
     public LoginResponse login(String username, String password) {
-        // 사용자의 아이디와 패스워드를 가져와서 인증 처리를 진행한다.
-        // 1. username을 가져와서 해당하는 사용자를 조회
-        User user = authMapper.selectUserById(username);
+        try {
+            // 사용자의 아이디와 패스워드를 가져와서 인증 처리를 진행한다.
+            // 1. username을 가져와서 해당하는 사용자를 조회
+            User user = authMapper.selectUserById(username);
 
-        // 2. PasswordEncoder를 사용해 데이터베이스에 저장된 패스워드와 입력받은 패스워드가 일치하는지 확인
-        if (user == null || !passwordEncoder.matches(password, user.getPassword())) {
-            throw new UniversityException(ExceptionMessage.INVALID_CREDENTIALS);
-        }
+            // 2. 로그인 전용 스레드 풀에서 데이터베이스에 저장된 패스워드와 입력받은 패스워드가 일치하는지 확인
+            //    (스레드 풀이 포화 상태이면 503 응답으로 즉시 실패한다.)
+            if (user == null || !loginPasswordVerifier.matches(password, user)) {
+                throw new UniversityException(ExceptionMessage.INVALID_CREDENTIALS);
+            }
+
+            // 3. AccessTokenResponse 객체를 생성해서 반환
+            LoginResponse loginResponse = createLoginResponse(user);
+
+            authMetrics.login(AuthMetrics.LoginOutcome.SUCCESS);
+
+            return loginResponse;
+        } catch (UniversityException e) {
+            authMetrics.login(toLoginOutcome(e));
 
-        // 3. AccessTokenResponse 객체를 생성해서 반환
-        return createLoginResponse(user);
+            throw e;
+        } catch (RuntimeException e) {
+            authMetrics.login(AuthMetrics.LoginOutcome.ERROR);
+
+            throw e;
+        }
     }
 
     @Override
@@ -56,26 +79,48 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public LoginResponse refreshAccessToken(String refreshToken) {
+    public RefreshResult refreshAccessToken(String refreshToken) {
+        VerifiedToken verifiedToken;
 
         // 1. 리프레시 토큰(Refresh Token) 검증
-        if(refreshToken.isBlank() || jwtUtil.validateToken(refreshToken)){
+        try {
+            verifiedToken = refreshToken.isBlank() ? null : jwtUtil.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            verifiedToken = null;
+        }
+
+        if (verifiedToken == null || verifiedToken.isExpired() || !verifiedToken.isRefreshToken()) {
             throw new UniversityException(ExceptionMessage.REFRESH_TOKEN_INVALID);
         }
 
-        // 2. Redis에서 리프레시 토큰(Refresh Token) 비교
-        if(!jwtTokenProvider.isValidRefreshToken(refreshToken)){
+        // 2. Redis에서 리프레시 토큰(Refresh Token)을 비교하고 새 토큰으로 교체 (한 번의 왕복으로 원자적으로 처리)
+        String newRefreshToken = jwtTokenProvider.rotateRefreshToken(verifiedToken);
+
+        // 3. 사용자 정보 조회 후 새로운 LoginResponse 객체를 생성 (UserDetailsService의 캐시를 사용한다.)
+        UserDetails user;
+
+        try {
+            user = userDetailsService.loadUserByUsername(verifiedToken.getUsername());
+        } catch (UsernameNotFoundException e) {
             throw new UniversityException(ExceptionMessage.REFRESH_TOKEN_INVALID);
         }
 
-        // 3. 사용자 정보 조회 후 새로운 LoginResponse 객체를 생성
-        User user = authMapper.selectUserById(jwtUtil.getUsername(refreshToken));
+        return new RefreshResult(createLoginResponse(user), newRefreshToken);
+    }
 
+    private static AuthMetrics.LoginOutcome toLoginOutcome(UniversityException e) {
+        if (ExceptionMessage.INVALID_CREDENTIALS.name().equals(e.getType())) {
+            return AuthMetrics.LoginOutcome.INVALID_CREDENTIALS;
+        }
+
+        if (ExceptionMessage.LOGIN_UNAVAILABLE.name().equals(e.getType())) {
+            return AuthMetrics.LoginOutcome.UNAVAILABLE;
+        }
 
-        return createLoginResponse(user);
+        return AuthMetrics.LoginOutcome.ERROR;
     }
 
-    private LoginResponse createLoginResponse(User user) {
+    private LoginResponse createLoginResponse(UserDetails user) {
         // 엑세스 토큰 생성
         List<String> authorities = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
         String accessToken = jwtTokenProvider.createAccessToken(user.getUsername(), authorities);
@@ -0,0 +1,125 @@
+package com.beyond.university.auth.model.service;
+
+import com.beyond.university.auth.model.mapper.AuthMapper;
+import com.beyond.university.auth.model.vo.User;
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.config.LoginProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    LoginPasswordVerifier
+      - 로그인 전용 스레드 풀(loginExecutor)에서 패스워드를 검증한다.
+      - 스레드 풀의 대기 큐가 가득 차면 503(Service Unavailable) 응답과 Retry-After 헤더로 즉시 실패한다.
+      - 대기와 검증을 합친 시간이 login.verify-timeout(ms)을 넘으면 작업을 취소하고 같은 503 응답으로 실패한다.
+        (큐가 밀려도 로그인 요청 스레드가 무한정 기다리지 않는다.)
+      - 저장된 해시의 BCrypt 비용이 설정 값(login.bcrypt-strength)과 다르면 검증에 성공한 패스워드를 다시 해싱해서 저장한다.
+ */
+@Slf4j
+@Component
+public class LoginPasswordVerifier {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final AuthMapper authMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor loginExecutor;
+    private final LoginProperties loginProperties;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public LoginPasswordVerifier(AuthMapper authMapper,
+                                 PasswordEncoder passwordEncoder,
+                                 @Qualifier("loginExecutor") ThreadPoolExecutor loginExecutor,
+                                 LoginProperties loginProperties,
+                                 MeterRegistry meterRegistry) {
+        this.authMapper = authMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.loginExecutor = loginExecutor;
+        this.loginProperties = loginProperties;
+        this.hashTimer = Timer.builder("login.bcrypt.duration")
+                .description("BCrypt 패스워드 검증 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.executor.rejected")
+                .description("대기 큐가 가득 차서 거절된 로그인 요청 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("login.executor.timeout")
+                .description("검증 시간이 초과되어 취소된 로그인 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 입력받은 패스워드와 사용자의 패스워드가 일치하는지 확인하는 메소드
+    public boolean matches(String rawPassword, User user) {
+        Future<Boolean> future;
+
+        try {
+            future = loginExecutor.submit(() -> verify(rawPassword, user));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+
+            throw unavailable();
+        }
+
+        try {
+            return future.get(loginProperties.getVerifyTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기 중이면 실행되지 않고, 실행 중이면 결과가 버려진다.
+            future.cancel(true);
+            timeoutCounter.increment();
+
+            throw unavailable();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+
+            throw new UniversityException(ExceptionMessage.LOGIN_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private UniversityException unavailable() {
+
+        return new UniversityException(
+                ExceptionMessage.LOGIN_UNAVAILABLE, Duration.ofSeconds(loginProperties.getRetryAfterSeconds()));
+    }
+
+    private boolean verify(String rawPassword, User user) {
+        boolean matched = hashTimer.record(() -> passwordEncoder.matches(rawPassword, user.getPassword()));
+
+        if (matched && needsRehash(user.getPassword())) {
+            // 설정된 BCrypt 비용으로 패스워드를 다시 해싱해서 저장
+            authMapper.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+
+            log.info("Password rehashed with bcrypt strength {} : {}", loginProperties.getBcryptStrength(), user.getId());
+        }
+
+        return matched;
+    }
+
+    private boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != loginProperties.getBcryptStrength();
+    }
+}
@@ -2,6 +2,8 @@ package com.beyond.university.auth.model.service;
 
 import com.beyond.university.auth.model.mapper.AuthMapper;
 import com.beyond.university.auth.model.vo.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,22 +11,37 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
+/*
+    UserDetailsServiceImpl
+      - 인증 객체 생성에 필요한 컬럼(no, id, role, status)만 조회하고 결과를 크기와 TTL이 제한된 캐시에 보관한다.
+      - 사용자의 상태나 권한을 변경하는 기능이 없기 때문에 캐시를 제거하지 않고, 변경이 반영되는 시간은 TTL(60초)로 제한한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(60);
+
     private final AuthMapper authMapper;
 
+    private final Cache<String, User> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .build();
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = authMapper.selectUserById(username);
+        User user = cache.get(username, authMapper::selectUserDetailsById);
 
         if (user == null) {
             throw new UsernameNotFoundException(username);
         }
 
-        log.info("loadUserByUsername username={}", user.getId());
+        log.debug("loadUserByUsername username={}", user.getId());
 
         return user;
     }
-}
\ No newline at end of file
+}
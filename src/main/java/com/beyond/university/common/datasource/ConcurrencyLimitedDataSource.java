@@ -0,0 +1,126 @@
+package com.beyond.university.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    ConcurrencyLimitedDataSource
+      - 동시에 사용하는 JDBC 연결의 수를 세마포어(Semaphore)로 제한하는 데이터 소스이다.
+      - 가상 스레드로 요청을 처리하면 스레드 수가 더 이상 동시에 실행되는 쿼리의 수를 제한하지 않기 때문에
+        연결을 가져오기 전에 허가(permit)를 받고, 연결을 닫을 때(커넥션 풀에 반환할 때) 허가를 반환한다.
+      - 허가를 기다리는 스레드는 요청 순서대로(fair) 깨어나고, acquire-timeout 안에 받지 못하면
+        SQLTransientConnectionException 예외가 발생한다. (커넥션 풀의 connection-timeout보다 짧게 실패한다.)
+      - 측정 항목
+        1. datasource.permits.available : 남은 허가 수
+        2. datasource.permits.waiting : 허가를 기다리는 스레드 수
+        3. datasource.permits.rejected : 허가를 받지 못한 횟수
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    private final long acquireTimeout;
+    private final Counter rejected;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, String name, int permits,
+                                        long acquireTimeout, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeout = acquireTimeout;
+
+        Gauge.builder("datasource.permits.available", this.permits, Semaphore::availablePermits)
+                .tag("pool", name)
+                .register(meterRegistry);
+        Gauge.builder("datasource.permits.waiting", this.permits, Semaphore::getQueueLength)
+                .tag("pool", name)
+                .register(meterRegistry);
+
+        this.rejected = Counter.builder("datasource.permits.rejected")
+                .tag("pool", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+
+        try {
+            return release(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+
+        try {
+            return release(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+
+                throw new SQLTransientConnectionException(
+                        "JDBC permit not available, waited " + acquireTimeout + "ms (waiting=" + permits.getQueueLength() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC permit", e);
+        }
+    }
+
+    // 연결을 닫을 때 한 번만 허가를 반환하도록 감싸는 메소드
+    private Connection release(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(connection, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
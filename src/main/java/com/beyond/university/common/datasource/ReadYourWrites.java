@@ -0,0 +1,28 @@
+package com.beyond.university.common.datasource;
+
+/*
+    ReadYourWrites
+      - 현재 요청(스레드)의 조회를 복제본 대신 기본 데이터 소스로 보내야 하는지 보관한다.
+      - 변경 요청이나 변경한 직후의 요청(ReadYourWritesFilter)에서 설정되고, 요청이 끝나면 제거된다.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> STICKY = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void stick() {
+
+        STICKY.set(Boolean.TRUE);
+    }
+
+    public static boolean isSticky() {
+
+        return STICKY.get() != null;
+    }
+
+    public static void clear() {
+
+        STICKY.remove();
+    }
+}
@@ -0,0 +1,76 @@
+package com.beyond.university.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/*
+    ReadYourWritesFilter
+      - 변경 요청(POST, PUT, PATCH, DELETE)을 보낸 클라이언트에게 기본 데이터 소스를 사용할 시간을 쿠키로 전달한다.
+      - 쿠키의 시간이 지나기 전의 요청은 복제본 대신 기본 데이터 소스에서 조회하기 때문에
+        복제 지연(replication lag)이 있어도 클라이언트는 자신이 변경한 내용을 바로 조회할 수 있다.
+      - 쿠키를 사용하기 때문에 요청이 다른 노드로 전달되어도 같은 방식으로 처리된다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final String COOKIE_NAME = "primary_until";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long stickyWindow;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+
+        if (write) {
+            // 응답이 먼저 커밋될 수 있기 때문에 요청을 처리하기 전에 쿠키를 추가한다.
+            ResponseCookie cookie = ResponseCookie
+                    .from(COOKIE_NAME, String.valueOf(now + stickyWindow))
+                    .httpOnly(true)
+                    .path("/")
+                    .maxAge(Duration.ofMillis(stickyWindow).toSeconds() + 1)
+                    .build();
+
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        if (write || stickyUntil(request) > now) {
+            ReadYourWrites.stick();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private long stickyUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+
+        return 0L;
+    }
+}
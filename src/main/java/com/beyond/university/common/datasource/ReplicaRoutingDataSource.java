@@ -0,0 +1,128 @@
+package com.beyond.university.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+
+/*
+    ReplicaRoutingDataSource
+      - 읽기 전용 트랜잭션(@Transactional(readOnly = true))의 연결은 복제본(replica)에서, 나머지는 기본 데이터 소스(primary)에서 가져온다.
+      - 트랜잭션이 시작될 때가 아니라 첫 번째 쿼리를 실행할 때 연결을 가져와야 읽기 전용 여부를 알 수 있기 때문에
+        LazyConnectionDataSourceProxy로 감싸서 사용한다. (ReplicaDataSourceConfig)
+      - 다음의 경우에는 읽기 전용 트랜잭션도 기본 데이터 소스를 사용한다.
+        1. 변경한 직후의 요청 (ReadYourWrites)
+        2. 복제본에 접속하지 못했거나 상태 확인에 실패한 경우 (다음 상태 확인에 성공하면 다시 복제본을 사용한다.)
+      - 커넥션 풀이 가득 차서 연결을 기다리다 시간이 초과된 경우(SQLTransientConnectionException)는 복제본의 장애가 아니기 때문에
+        복제본을 계속 사용하고 예외를 그대로 던진다. (부하가 몰릴 때 모든 조회가 기본 데이터 소스로 넘어가지 않도록)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final DataSource replica;
+    private final int healthCheckTimeout;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, int healthCheckTimeout, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.primaryCounter = Counter.builder("datasource.routing").tag("target", "primary").register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.routing").tag("target", "replica").register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // 복제본의 연결이 유효한지 주기적으로 확인하는 메소드
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:5000}")
+    public void checkReplica() {
+        boolean available;
+
+        try (Connection connection = replica.getConnection()) {
+            available = connection.isValid(healthCheckTimeout);
+        } catch (SQLException e) {
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            log.info("Replica data source is {}.", available ? "available" : "unavailable, routing reads to primary");
+        }
+
+        replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+
+        return replicaAvailable;
+    }
+
+    private Connection route(ConnectionSupplier supplier) throws SQLException {
+        if (replicaAvailable
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWrites.isSticky()) {
+            try {
+                Connection connection = supplier.get(replica);
+
+                replicaCounter.increment();
+
+                return connection;
+            } catch (SQLException e) {
+                if (!isConnectionFailure(e)) {
+                    throw e;
+                }
+
+                // 복제본에 접속할 수 없으면 상태 확인에 성공할 때까지 기본 데이터 소스를 사용한다.
+                replicaAvailable = false;
+
+                log.warn("Failed to get replica connection, routing reads to primary : {}", e.getMessage());
+            }
+        }
+
+        primaryCounter.increment();
+
+        return supplier.get(primary);
+    }
+
+    // 접속 자체에 실패한 예외인지 확인하는 메소드 (SQLState 08xxx : connection exception)
+    // Hikari는 접속에 실패해서 시간이 초과되면 마지막 접속 실패의 SQLState와 원인을 함께 담아서 던진다.
+    static boolean isConnectionFailure(SQLException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+
+            if (cause instanceof SQLException sqlException
+                    && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
 import java.io.Serial;
+import java.time.Duration;
 
 @Getter
 public class UniversityException extends RuntimeException {
@@ -15,10 +16,19 @@ public class UniversityException extends RuntimeException {
 
     private final HttpStatus status;
 
+    // 클라이언트가 다시 요청할 때까지 기다려야 하는 시간 (Retry-After 헤더, 없으면 null)
+    private final Duration retryAfter;
+
     public UniversityException(ExceptionMessage message) {
+
+        this(message, null);
+    }
+
+    public UniversityException(ExceptionMessage message, Duration retryAfter) {
         super(message.getMessage());
 
         this.type = message.name();
         this.status = message.getStatus();
+        this.retryAfter = retryAfter;
     }
 }
\ No newline at end of file
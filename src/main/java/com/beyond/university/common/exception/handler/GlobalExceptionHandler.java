@@ -2,14 +2,22 @@ package com.beyond.university.common.exception.handler;
 
 import com.beyond.university.common.exception.UniversityException;
 import com.beyond.university.common.exception.dto.ApiErrorResponseDto;
+import com.beyond.university.common.exception.message.ExceptionMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -39,9 +47,37 @@ public class GlobalExceptionHandler {
                 e.getMessage()
         );
 
+        if (e.getRetryAfter() != null) {
+            HttpHeaders headers = new HttpHeaders();
+
+            headers.add(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()));
+
+            return new ResponseEntity<>(apiErrorResponseDto, headers, e.getStatus());
+        }
+
         return new ResponseEntity<>(apiErrorResponseDto, e.getStatus());
     }
 
+    // 내보내기 전용 스레드 풀(exportExecutor)의 대기 큐가 가득 찬 경우
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiErrorResponseDto> handleException(TaskRejectedException e) {
+
+        return handleException(new UniversityException(ExceptionMessage.EXPORT_UNAVAILABLE));
+    }
+
+    // 제한 시간 안에 JDBC 연결을 가져오지 못한 경우 (커넥션 풀 또는 가상 스레드 모드의 JDBC 허가)
+    @ExceptionHandler({
+            CannotGetJdbcConnectionException.class,
+            CannotCreateTransactionException.class,
+            TransientDataAccessResourceException.class
+    })
+    public ResponseEntity<ApiErrorResponseDto> handleException(NestedRuntimeException e) {
+
+        log.warn("Database connection unavailable : {}", e.getMessage());
+
+        return handleException(new UniversityException(ExceptionMessage.DATABASE_UNAVAILABLE, Duration.ofSeconds(1)));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponseDto> handleException(MethodArgumentNotValidException e) {
         StringBuilder errors = new StringBuilder();
@@ -8,10 +8,23 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum ExceptionMessage {
     DEPARTMENT_NOT_FOUND("학과 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    DEPARTMENT_MODIFIED("학과 정보가 변경되었습니다. 다시 조회한 후 시도해 주세요.", HttpStatus.PRECONDITION_FAILED),
+    DEPARTMENT_NO_EXHAUSTED("더 이상 발급할 수 있는 학과 번호가 없습니다.", HttpStatus.CONFLICT),
+    DEPARTMENT_BATCH_LIMIT_EXCEEDED("한 번에 조회할 수 있는 학과 번호는 최대 100개입니다.", HttpStatus.BAD_REQUEST),
     SUBJECT_NOT_FOUND("과목 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    PREREQUISITE_CYCLE("선수 과목 관계에 순환이 있습니다.", HttpStatus.CONFLICT),
     INVALID_CREDENTIALS("아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     ACCESS_TOKEN_INVALID("토큰이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED),
-    REFRESH_TOKEN_INVALID("리프레시 토큰이 유효하지 않습니다.",HttpStatus.BAD_REQUEST );
+    REFRESH_TOKEN_INVALID("리프레시 토큰이 유효하지 않습니다.",HttpStatus.BAD_REQUEST ),
+    INVALID_EXPAND("expand 값이 올바르지 않습니다. (subjects)", HttpStatus.BAD_REQUEST),
+    INVALID_FIELDS("fields 값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE("page는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
+    INVALID_NUM_OF_ROWS("numOfRows는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("커서 값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    LOGIN_UNAVAILABLE("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    UNSUPPORTED_FORMAT("지원하지 않는 형식입니다. (json, ndjson, csv)", HttpStatus.BAD_REQUEST),
+    EXPORT_UNAVAILABLE("내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    DATABASE_UNAVAILABLE("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
 
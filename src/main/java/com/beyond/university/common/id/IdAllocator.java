@@ -0,0 +1,32 @@
+package com.beyond.university.common.id;
+
+import java.util.function.LongSupplier;
+
+/*
+    IdAllocator
+      - 여러 노드에서 중복되지 않는 번호를 발급하는 인터페이스이다.
+      - 시퀀스(sequence) 이름별로 독립된 번호를 발급한다.
+ */
+@FunctionalInterface
+public interface IdAllocator {
+
+    // 시퀀스의 다음 번호를 발급하는 메소드
+    // seed는 시퀀스의 카운터가 없을 때(처음 만들어지거나 유실된 경우)만 호출되고, 발급되는 번호는 seed가 반환한 값보다 크다.
+    long next(String sequence, LongSupplier seed);
+
+    default long next(String sequence) {
+
+        return next(sequence, () -> 0L);
+    }
+
+    // 시퀀스의 다음 번호를 count 개 발급하는 메소드 (대량 등록용, 구현체는 한 번의 왕복으로 발급할 수 있다.)
+    default long[] next(String sequence, int count, LongSupplier seed) {
+        long[] ids = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            ids[i] = next(sequence, seed);
+        }
+
+        return ids;
+    }
+}
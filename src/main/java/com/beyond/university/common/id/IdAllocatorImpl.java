@@ -0,0 +1,112 @@
+package com.beyond.university.common.id;
+
+import com.beyond.university.config.IdAllocatorProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+/*
+    IdAllocatorImpl
+      - 레디스(Redis) 카운터("sequence:{이름}")에서 번호 블록을 임대(lease)하고, 노드 로컬에서 블록의 번호를 순서대로 발급한다.
+      - 블록을 모두 사용했을 때만 Redis에 INCRBY 명령을 실행하기 때문에 번호를 발급할 때마다 네트워크 왕복이 발생하지 않는다.
+      - 노드가 종료되면 사용하지 않은 블록의 번호는 버려진다. (번호에 빈 구간이 생길 수 있다.)
+      - 여러 개의 번호를 한 번에 요청하면 블록 크기와 관계없이 요청한 개수만큼 한 번의 INCRBY 명령으로 임대한다.
+      - 카운터가 없으면(처음 사용하거나 Redis에서 키가 제거된 경우) 현재 사용 중인 마지막 번호(seed)로 초기화한 뒤에 임대한다.
+        존재 여부 확인, 초기화, INCRBY를 하나의 Lua 스크립트로 실행하기 때문에 키가 유실되어도 1부터 다시 발급하지 않는다.
+      - 블록을 갱신하는 동안 가상 스레드(Virtual Thread)가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdAllocatorImpl implements IdAllocator {
+    private static final String KEY_PREFIX = "sequence:";
+    private static final RedisScript<Long> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/lease-id-block.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final IdAllocatorProperties idAllocatorProperties;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Override
+    public long next(String sequence, LongSupplier seed) {
+
+        return blocks.computeIfAbsent(sequence, Block::new).next(seed);
+    }
+
+    @Override
+    public long[] next(String sequence, int count, LongSupplier seed) {
+
+        return blocks.computeIfAbsent(sequence, Block::new).next(count, seed);
+    }
+
+    private final class Block {
+        private final String sequence;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1L;
+        private long max = 0L;
+
+        private Block(String sequence) {
+            this.sequence = sequence;
+        }
+
+        long next(LongSupplier seed) {
+            lock.lock();
+
+            try {
+                if (next > max) {
+                    lease(seed);
+                }
+
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long[] next(int count, LongSupplier seed) {
+            lock.lock();
+
+            try {
+                // 현재 블록과 별개로 요청한 개수만큼의 연속된 번호를 임대한다.
+                long high = increment(count, seed);
+
+                return LongStream.rangeClosed(high - count + 1, high).toArray();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void lease(LongSupplier seed) {
+            int blockSize = idAllocatorProperties.getBlockSize(sequence);
+            long high = increment(blockSize, seed);
+
+            next = high - blockSize + 1;
+            max = high;
+        }
+
+        private long increment(int count, LongSupplier seed) {
+            List<String> keys = List.of(KEY_PREFIX + sequence);
+            // 대부분은 카운터가 있기 때문에 seed(DB 조회)를 계산하지 않고 먼저 임대를 시도한다.
+            Long high = redisTemplate.execute(LEASE_SCRIPT, keys, String.valueOf(count));
+
+            if (high != null && high < 0) {
+                // 카운터가 없으면 현재 사용 중인 마지막 번호로 초기화하면서 임대한다. (그 사이에 다른 노드가 초기화했으면 그 값을 사용한다.)
+                high = redisTemplate.execute(LEASE_SCRIPT, keys, String.valueOf(count), String.valueOf(seed.getAsLong()));
+            }
+
+            if (high == null) {
+                throw new IllegalStateException("Failed to lease id block : " + sequence);
+            }
+
+            return high;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.beyond.university.common.jfr;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+    JfrRequestFilter
+      - 요청 처리 시간을 JFR 이벤트(RequestEvent)로 기록한다. (인증 필터를 포함하기 위해 가장 먼저 실행된다.)
+      - 기록 중이 아니면 이벤트 객체는 JIT 컴파일러의 탈출 분석으로 제거되고 필드도 채우지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+
+        event.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            event.finish(request.getMethod(), request.getRequestURI(),
+                    pattern != null ? pattern.toString() : null, response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.beyond.university.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.beyond.university.JwtVerification")
+@Label("JWT Verification")
+@Description("액세스 토큰 검증 (서명 검증, 블랙리스트 확인)")
+@Category({"University", "Auth"})
+@Enabled(false)
+@StackTrace(false)
+public class JwtVerificationEvent extends jdk.jfr.Event {
+    public static final String VALID = "valid";
+    public static final String INVALID = "invalid";
+    public static final String EXPIRED = "expired";
+    public static final String NOT_ACCESS = "not_access";
+    public static final String BLACKLISTED = "blacklisted";
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String outcome) {
+        end();
+
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.beyond.university.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.beyond.university.Mapper")
+@Label("Mapper Statement")
+@Description("MyBatis 매핑 문장 실행")
+@Category({"University", "MyBatis"})
+@Enabled(false)
+@StackTrace(false)
+public class MapperEvent extends jdk.jfr.Event {
+    @Label("Statement")
+    private String statement;
+
+    // 조회한 행 수 또는 영향받은 행 수 (알 수 없으면 -1)
+    @Label("Rows")
+    private long rows;
+
+    public void finish(String statement, long rows) {
+        end();
+
+        if (shouldCommit()) {
+            this.statement = statement;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
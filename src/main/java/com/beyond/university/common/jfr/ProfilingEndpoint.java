@@ -0,0 +1,262 @@
+package com.beyond.university.common.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    ProfilingEndpoint
+      - POST /actuator/jfr {"seconds": 30, "settings": "profile"}
+        지정한 시간(최대 300초) 동안 JFR 기록을 시작하고 바로 202(Accepted)와 기록 ID를 응답한다.
+      - GET /actuator/jfr : 마지막 기록의 상태 (RECORDING, READY, FAILED)
+      - GET /actuator/jfr/{id} : 끝난 기록의 .jfr 파일을 디스크에서 그대로 스트리밍한다. (JDK Mission Control로 분석)
+        기록 중이면 409(Conflict), 없는 ID이면 404로 응답한다.
+      - 기록은 가상 스레드에서 진행하기 때문에 요청 스레드를 점유하지 않고, 파일을 힙으로 읽지 않는다.
+      - 파일은 마지막 기록 하나만 보관하고, 다음 기록을 시작하거나 애플리케이션이 종료될 때 삭제한다.
+      - JDK 기본 이벤트(settings : default 또는 profile)와 함께 애플리케이션 이벤트(요청, JWT 검증, Redis 명령, 매핑 문장)를 기록한다.
+      - 애플리케이션 이벤트는 기본적으로 비활성화(@Enabled(false))되어 있어서 기록 중이 아니면 비용이 거의 없다.
+      - 동시에 하나만 기록할 수 있다. (기록 중이면 429로 응답한다.)
+      - 관리자만 요청할 수 있다. (SecurityConfig)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class ProfilingEndpoint {
+    private static final int DEFAULT_SECONDS = 30;
+    private static final int MAX_SECONDS = 300;
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            RequestEvent.class, JwtVerificationEvent.class, RedisCommandEvent.class, MapperEvent.class);
+    private static final MimeType JFR = MimeType.valueOf("application/octet-stream");
+
+    private enum State {
+        RECORDING, READY, FAILED
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 마지막 기록 (lock으로 보호한다.)
+    private Capture capture;
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> record(@Nullable Integer seconds, @Nullable String settings) {
+        int duration = seconds == null ? DEFAULT_SECONDS : seconds;
+        String configurationName = settings == null ? "default" : settings;
+
+        if (duration < 1 || duration > MAX_SECONDS || !SETTINGS.contains(configurationName)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        lock.lock();
+
+        try {
+            if (capture != null && capture.state == State.RECORDING) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+            }
+
+            discard();
+            capture = start(duration, configurationName);
+
+            Capture started = capture;
+
+            Thread.ofVirtual().name("jfr-" + started.id).start(() -> finish(started, duration));
+
+            return new WebEndpointResponse<>(started.describe(), HttpStatus.ACCEPTED.value());
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("Failed to start JFR recording : {}", e.getMessage());
+
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, Object>> status() {
+        lock.lock();
+
+        try {
+            if (capture == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+
+            return new WebEndpointResponse<>(capture.describe(), WebEndpointResponse.STATUS_OK);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String id) {
+        lock.lock();
+
+        try {
+            if (capture == null || !capture.id.equals(id) || capture.state == State.FAILED) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+
+            if (capture.state == State.RECORDING) {
+                return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+            }
+
+            // 응답을 쓰는 동안 다음 기록이 파일을 삭제해도 이미 연 파일은 끝까지 읽을 수 있다.
+            return new WebEndpointResponse<>(new FileSystemResource(capture.file), WebEndpointResponse.STATUS_OK, JFR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+
+        try {
+            if (capture != null && capture.state == State.RECORDING) {
+                capture.recording.close();
+            }
+
+            discard();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Capture start(int seconds, String configurationName) throws IOException, ParseException {
+        Path file = Files.createTempFile("university-", ".jfr");
+        Recording recording = new Recording(Configuration.getConfiguration(configurationName));
+        Capture started = new Capture(UUID.randomUUID().toString(), file, recording, seconds, configurationName);
+
+        recording.setName("university-" + started.id);
+        // 기록을 끝내는 스레드가 실행되지 못하더라도 기록이 계속 남지 않도록 최대 기록 시간을 지정한다.
+        recording.setDuration(Duration.ofSeconds(seconds + 10L));
+
+        for (Class<? extends Event> event : EVENTS) {
+            recording.enable(event);
+        }
+
+        try {
+            recording.start();
+        } catch (RuntimeException e) {
+            recording.close();
+            Files.deleteIfExists(file);
+
+            throw e;
+        }
+
+        log.info("JFR recording started. id={}, seconds={}, settings={}", started.id, seconds, configurationName);
+
+        return started;
+    }
+
+    // 지정한 시간이 지나면 기록을 멈추고 파일로 저장하는 메소드 (가상 스레드에서 실행된다.)
+    private void finish(Capture started, int seconds) {
+        State state = State.FAILED;
+
+        try {
+            Thread.sleep(Duration.ofSeconds(seconds));
+
+            started.recording.stop();
+            started.recording.dump(started.file);
+            state = State.READY;
+
+            log.info("JFR recording finished. id={}, size={}KB", started.id, Files.size(started.file) / 1024);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to record JFR : {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            started.recording.close();
+        }
+
+        lock.lock();
+
+        try {
+            started.state = state;
+
+            if (state == State.FAILED) {
+                delete(started.file);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막 기록의 파일을 삭제하는 메소드 (lock을 가진 상태에서 호출한다.)
+    private void discard() {
+        if (capture != null) {
+            delete(capture.file);
+            capture = null;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete JFR file : {}", e.getMessage());
+        }
+    }
+
+    private static final class Capture {
+        private final String id;
+
+        private final Path file;
+
+        private final Recording recording;
+
+        private final int seconds;
+
+        private final String settings;
+
+        private final Instant startedAt = Instant.now();
+
+        // lock으로 보호한다.
+        private State state = State.RECORDING;
+
+        private Capture(String id, Path file, Recording recording, int seconds, String settings) {
+            this.id = id;
+            this.file = file;
+            this.recording = recording;
+            this.seconds = seconds;
+            this.settings = settings;
+        }
+
+        private Map<String, Object> describe() {
+            Map<String, Object> description = new LinkedHashMap<>();
+
+            description.put("id", id);
+            description.put("state", state);
+            description.put("seconds", seconds);
+            description.put("settings", settings);
+            description.put("startedAt", startedAt);
+            description.put("download", "/actuator/jfr/" + id);
+
+            return description;
+        }
+    }
+}
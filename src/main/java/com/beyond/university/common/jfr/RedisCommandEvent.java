@@ -0,0 +1,32 @@
+package com.beyond.university.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.beyond.university.RedisCommand")
+@Label("Redis Command")
+@Description("Redis 명령 실행 (요청한 스레드에서 시작해서 응답을 받을 때까지)")
+@Category({"University", "Redis"})
+@Enabled(false)
+@StackTrace(false)
+public class RedisCommandEvent extends jdk.jfr.Event {
+    @Label("Command")
+    private String command;
+
+    @Label("Failed")
+    private boolean failed;
+
+    public void finish(String command, boolean failed) {
+        end();
+
+        if (shouldCommit()) {
+            this.command = command;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
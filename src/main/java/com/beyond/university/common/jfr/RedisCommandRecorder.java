@@ -0,0 +1,74 @@
+package com.beyond.university.common.jfr;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.protocol.RedisCommand;
+import jdk.jfr.EventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+    RedisCommandRecorder
+      - Lettuce 클라이언트의 모든 Redis 명령을 JFR 이벤트(RedisCommandEvent)로 기록한다.
+      - 명령을 보낸 스레드에서 이벤트를 시작하고, 응답을 받은 스레드(Netty 이벤트 루프)에서 커밋한다.
+      - 기록 중이 아니면(EventType.isEnabled()가 false) 이벤트 객체를 만들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCommandRecorder implements CommandListener {
+    private static final String CONTEXT_KEY = RedisCommandEvent.class.getName();
+    private static final EventType EVENT_TYPE = EventType.getEventType(RedisCommandEvent.class);
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    // 연결 팩토리가 시작된 후 Lettuce 클라이언트에 리스너를 등록하는 메소드
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        if (redisConnectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory) {
+            AbstractRedisClient client = lettuceConnectionFactory.getNativeClient();
+
+            if (client != null) {
+                client.addListener(this);
+            }
+        }
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!EVENT_TYPE.isEnabled()) {
+            return;
+        }
+
+        RedisCommandEvent redisCommandEvent = new RedisCommandEvent();
+
+        redisCommandEvent.begin();
+        event.getContext().put(CONTEXT_KEY, redisCommandEvent);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+
+        finish(event.getContext(), event.getCommand(), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+
+        finish(event.getContext(), event.getCommand(), true);
+    }
+
+    private static void finish(Map<String, Object> context, RedisCommand<Object, Object, Object> command, boolean failed) {
+        if (context.remove(CONTEXT_KEY) instanceof RedisCommandEvent redisCommandEvent) {
+            redisCommandEvent.finish(command.getType().toString(), failed);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.beyond.university.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.beyond.university.Request")
+@Label("HTTP Request")
+@Description("HTTP 요청 처리")
+@Category({"University", "Web"})
+@Enabled(false)
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+    @Label("Method")
+    private String method;
+
+    @Label("URI")
+    private String uri;
+
+    // 컨트롤러의 URI 템플릿 (예: /api/v1/department-service/departments/{department-no})
+    @Label("Pattern")
+    private String pattern;
+
+    @Label("Status")
+    private int status;
+
+    // 이벤트를 끝내고 기록 중인 경우에만 필드를 채워서 커밋하는 메소드
+    public void finish(String method, String uri, String pattern, int status) {
+        end();
+
+        if (shouldCommit()) {
+            this.method = method;
+            this.uri = uri;
+            this.pattern = pattern;
+            this.status = status;
+            commit();
+        }
+    }
+}
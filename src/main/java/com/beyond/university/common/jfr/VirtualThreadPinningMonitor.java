@@ -0,0 +1,87 @@
+package com.beyond.university.common.jfr;
+
+import com.beyond.university.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+    VirtualThreadPinningMonitor
+      - 가상 스레드가 캐리어 스레드에 고정(pinning)된 경우를 JFR 이벤트(jdk.VirtualThreadPinned)로 감시한다.
+        (synchronized 블록 안에서 I/O를 기다리거나 네이티브 메소드를 실행하는 경우, Java 21)
+      - 고정된 시간이 virtual-threads.pinned-threshold 이상이면 jvm.threads.virtual.pinned 카운터를 증가시키고,
+        같은 위치(스택 트레이스)는 처음 한 번만 로그로 남긴다.
+      - spring.threads.virtual.enabled가 true인 경우에만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 8;
+
+    private final RecordingStream recordingStream = new RecordingStream();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+    private final Counter pinned;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties virtualThreadProperties, MeterRegistry meterRegistry) {
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+
+        recordingStream.enable(EVENT_NAME)
+                .withThreshold(Duration.ofMillis(virtualThreadProperties.getPinnedThreshold()))
+                .withStackTrace();
+        recordingStream.onEvent(EVENT_NAME, this::onPinned);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+
+        String frames = frames(event.getStackTrace());
+
+        if (reported.add(frames)) {
+            log.warn("Virtual thread pinned for {}ms : {}", event.getDuration().toMillis(), frames);
+        }
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(no stack trace)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -0,0 +1,22 @@
+package com.beyond.university.common.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@ToString
+public class CursorItemsResponseDto<T> extends BaseResponseDto<T> {
+    @Schema(description = "조회 결과 수", example = "10")
+    private final int numOfRows;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지는 null)", example = "7J287Ja07ZWZ6rO8ADAwMQ")
+    private final String nextCursor;
+
+    public CursorItemsResponseDto(HttpStatus status, CursorPage<T> cursorPage) {
+        super(status, cursorPage.getItems());
+        this.numOfRows = cursorPage.getItems().size();
+        this.nextCursor = cursorPage.getNextCursor();
+    }
+}
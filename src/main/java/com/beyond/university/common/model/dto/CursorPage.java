@@ -0,0 +1,33 @@
+package com.beyond.university.common.model.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Function;
+
+/*
+    CursorPage
+      - 키셋(커서) 페이징으로 조회한 한 페이지의 결과와 다음 페이지의 커서를 담는 객체이다.
+      - 다음 페이지가 없으면 nextCursor는 null이다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CursorPage<T> {
+    private final List<T> items;
+
+    private final String nextCursor;
+
+    // 한 행을 더 조회한 결과(numOfRows + 1)로 CursorPage 객체를 생성하는 메소드
+    public static <T> CursorPage<T> of(List<T> rows, int numOfRows, Function<T, KeysetCursor> keyExtractor) {
+        if (rows.size() <= numOfRows) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, numOfRows);
+
+        return new CursorPage<>(items, keyExtractor.apply(items.get(numOfRows - 1)).encode());
+    }
+}
@@ -1,6 +1,7 @@
 package com.beyond.university.common.model.dto;
 
 import com.beyond.university.common.model.dto.BaseResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,10 +18,11 @@ public class ItemsResponseDto<T> extends BaseResponseDto<T> {
     @Schema(description = "조회 결과 수", example = "10")
     private final int numOfRows;
 
-    @Schema(description = "전체 결과 수", example = "100")
-    private final int totalCount;
+    @Schema(description = "전체 결과 수 (withTotal=false로 요청하면 생략)", example = "100")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer totalCount;
 
-    public ItemsResponseDto(HttpStatus status, List<T> items, int page, int totalCount) {
+    public ItemsResponseDto(HttpStatus status, List<T> items, int page, Integer totalCount) {
         super(status, items);
         this.page = page;
         this.numOfRows = items.size();
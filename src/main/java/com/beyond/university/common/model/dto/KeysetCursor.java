@@ -0,0 +1,54 @@
+package com.beyond.university.common.model.dto;
+
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+    KeysetCursor
+      - 키셋(커서) 페이징에서 마지막으로 조회한 행의 정렬 키(이름, 번호)를 담는 객체이다.
+      - 클라이언트에는 Base64(URL-safe)로 인코딩한 불투명(opaque) 문자열로 전달한다.
+      - 다음 페이지는 OFFSET 없이 (이름, 번호)가 커서보다 큰 행부터 LIMIT 만큼 조회한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class KeysetCursor {
+    private static final char SEPARATOR = '\u0000';
+
+    private final String name;
+
+    private final String no;
+
+    // 커서 문자열로 인코딩하는 메소드
+    public String encode() {
+        String value = name + SEPARATOR + no;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열을 KeysetCursor 객체로 디코딩하는 메소드 (첫 페이지를 의미하는 빈 문자열은 null 반환)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+
+            if (separator < 0) {
+                throw new UniversityException(ExceptionMessage.INVALID_CURSOR);
+            }
+
+            return new KeysetCursor(value.substring(0, separator), value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new UniversityException(ExceptionMessage.INVALID_CURSOR);
+        }
+    }
+}
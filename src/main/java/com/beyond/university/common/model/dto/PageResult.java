@@ -0,0 +1,21 @@
+package com.beyond.university.common.model.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+    PageResult
+      - 페이지 번호로 조회한 한 페이지의 결과와 전체 결과 수를 담는 객체이다.
+      - 전체 결과 수를 조회하지 않은 경우 totalCount는 null이다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PageResult<T> {
+    private final List<T> items;
+
+    private final Integer totalCount;
+}
@@ -0,0 +1,20 @@
+package com.beyond.university.common.model.vo;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+    PagedRow
+      - 한 번의 쿼리로 페이지의 행과 전체 결과 수(COUNT(*) OVER ())를 함께 조회할 때 사용하는 객체이다.
+      - key는 MyBatis가 행을 구분하는 기준(id)으로 사용하는 기본 키 값이다.
+      - 전체 결과 수를 조회하지 않으면 totalCount는 null이다.
+ */
+@Data
+@NoArgsConstructor
+public class PagedRow<T> {
+    private String key;
+
+    private Integer totalCount;
+
+    private T item;
+}
@@ -0,0 +1,35 @@
+package com.beyond.university.common.mybatis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+    SlowStatement
+      - 임계값(statement-timing.slow-threshold)보다 오래 걸린 매핑 문장의 실행 정보이다.
+      - 파라미터 값은 개인 정보(패스워드 등)를 포함할 수 있기 때문에 보관하지 않는다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SlowStatement {
+    private final String statement;
+
+    private final long elapsedMillis;
+
+    // 조회한 행 수 또는 영향받은 행 수 (알 수 없으면 -1)
+    private final long rows;
+
+    // RowBounds로 건너뛴 행 수 (DB에서 읽은 후 버려진 행)
+    private final long skippedRows;
+
+    private final String sql;
+
+    // 실행 계획 (기록하지 않은 경우 null)
+    private final List<Map<String, Object>> explain;
+
+    private final long occurredAt;
+}
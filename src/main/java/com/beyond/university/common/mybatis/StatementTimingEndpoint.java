@@ -0,0 +1,34 @@
+package com.beyond.university.common.mybatis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    StatementTimingEndpoint
+      - GET /actuator/statements
+      - 매핑 문장별 통계(실행 시간 합계가 큰 순서)와 최근 느린 문장(실행 계획 포함)을 응답한다.
+      - SQL이 포함되기 때문에 관리자만 조회할 수 있다. (SecurityConfig)
+ */
+@Component
+@ConditionalOnProperty(prefix = "statement-timing", name = "enabled", matchIfMissing = true)
+@Endpoint(id = "statements")
+@RequiredArgsConstructor
+public class StatementTimingEndpoint {
+    private final StatementTimingInterceptor statementTimingInterceptor;
+
+    @ReadOperation
+    public Map<String, Object> statements() {
+        Map<String, Object> statements = new LinkedHashMap<>();
+
+        statements.put("statements", statementTimingInterceptor.statistics());
+        statements.put("slowStatements", statementTimingInterceptor.slowStatements());
+
+        return statements;
+    }
+}
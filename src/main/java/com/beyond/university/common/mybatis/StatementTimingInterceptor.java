@@ -0,0 +1,295 @@
+package com.beyond.university.common.mybatis;
+
+import com.beyond.university.common.jfr.MapperEvent;
+import com.beyond.university.config.StatementTimingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    StatementTimingInterceptor
+      - 매핑 문장(MappedStatement)마다 실행 시간, 조회한 행 수, RowBounds로 건너뛴 행 수를 기록하는 MyBatis 인터셉터이다.
+        1. mybatis.statement : 실행 시간 (statement, type 태그, SLO_BUCKETS 구간의 히스토그램)
+        2. mybatis.statement.rows : 조회한 행 수 또는 영향받은 행 수
+        3. mybatis.statement.rows.skipped : RowBounds의 offset 만큼 DB에서 읽은 후 버려진 행 수
+        4. mybatis.statement.slow : 임계값보다 오래 걸린 횟수
+      - 임계값(statement-timing.slow-threshold)보다 오래 걸린 문장은 샘플링해서 "slow-statement" 로거로 남기고 최근 목록에 보관한다.
+      - explain-enabled가 true이면 느린 SELECT 문장의 실행 계획(EXPLAIN)을 같은 연결에서 조회해서 함께 보관한다.
+        (문장마다 explain-interval에 한 번만 조회한다.)
+      - 기록한 내용은 /actuator/statements(StatementTimingEndpoint)와 /actuator/metrics에서 조회한다.
+      - JFR로 기록 중이면 문장마다 MapperEvent를 남긴다.
+      - mybatis-spring-boot-starter가 Interceptor 빈을 자동으로 등록한다.
+ */
+@Slf4j(topic = "slow-statement")
+@Component
+@ConditionalOnProperty(prefix = "statement-timing", name = "enabled", matchIfMissing = true)
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementTimingInterceptor implements Interceptor {
+    // 문장마다 시계열이 생기기 때문에 전체 히스토그램(약 70개 구간) 대신 필요한 구간만 기록한다.
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final StatementTimingProperties statementTimingProperties;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Long> explainedAt = new ConcurrentHashMap<>();
+    private final ArrayDeque<SlowStatement> slowStatements = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public StatementTimingInterceptor(MeterRegistry meterRegistry, StatementTimingProperties statementTimingProperties) {
+        this.meterRegistry = meterRegistry;
+        this.statementTimingProperties = statementTimingProperties;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MapperEvent event = new MapperEvent();
+        long start = System.nanoTime();
+        Object result = null;
+
+        event.begin();
+
+        try {
+            result = invocation.proceed();
+
+            return result;
+        } finally {
+            event.finish(((MappedStatement) invocation.getArgs()[0]).getId(), rowsOf(result));
+            record(invocation, result, System.nanoTime() - start);
+        }
+    }
+
+    // 문장별 통계를 실행 시간 합계가 큰 순서로 반환하는 메소드
+    public List<Map<String, Object>> statistics() {
+        List<Map<String, Object>> statistics = new ArrayList<>();
+
+        meters.forEach((statement, meter) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+
+            row.put("statement", statement);
+            row.put("type", meter.type());
+            row.put("count", meter.timer().count());
+            row.put("totalMillis", meter.timer().totalTime(TimeUnit.MILLISECONDS));
+            row.put("meanMillis", meter.timer().mean(TimeUnit.MILLISECONDS));
+            row.put("maxMillis", meter.timer().max(TimeUnit.MILLISECONDS));
+            row.put("meanRows", meter.rows().mean());
+            row.put("skippedRows", (long) meter.skippedRows().count());
+            row.put("slowCount", (long) meter.slow().count());
+
+            statistics.add(row);
+        });
+
+        statistics.sort(Comparator.comparingDouble(row -> -((double) row.get("totalMillis"))));
+
+        return statistics;
+    }
+
+    // 최근 느린 문장을 최근 순서로 반환하는 메소드
+    public List<SlowStatement> slowStatements() {
+        lock.lock();
+
+        try {
+            List<SlowStatement> recent = new ArrayList<>(slowStatements);
+
+            return recent.reversed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(Invocation invocation, Object result, long elapsedNanos) {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        RowBounds rowBounds = args.length > 2 && args[2] instanceof RowBounds bounds ? bounds : RowBounds.DEFAULT;
+        Meters meter = meters.computeIfAbsent(mappedStatement.getId(), statement -> register(statement, mappedStatement));
+        long rows = rowsOf(result);
+        long skippedRows = rowBounds.getOffset();
+
+        meter.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (rows >= 0) {
+            meter.rows().record(rows);
+        }
+
+        if (skippedRows > 0) {
+            meter.skippedRows().increment(skippedRows);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        if (elapsedMillis < statementTimingProperties.getSlowThreshold()) {
+            return;
+        }
+
+        meter.slow().increment();
+
+        if (ThreadLocalRandom.current().nextDouble() >= statementTimingProperties.getSlowSampleRate()) {
+            return;
+        }
+
+        Object parameter = args[1];
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(parameter);
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        // 커서는 결과를 읽는 동안 같은 연결에서 다른 문장을 실행할 수 없기 때문에 실행 계획을 조회하지 않는다.
+        List<Map<String, Object>> explain = result instanceof Cursor<?>
+                ? null : explain(invocation, mappedStatement, parameter, boundSql, sql);
+
+        log.warn("Slow statement {} took {}ms (rows={}, skipped={}) : {}",
+                mappedStatement.getId(), elapsedMillis, rows, skippedRows, sql);
+
+        lock.lock();
+
+        try {
+            slowStatements.addLast(new SlowStatement(mappedStatement.getId(), elapsedMillis, rows, skippedRows,
+                    sql, explain, System.currentTimeMillis()));
+
+            while (slowStatements.size() > statementTimingProperties.getMaxSlowStatements()) {
+                slowStatements.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 느린 SELECT 문장의 실행 계획을 조회하는 메소드 (문장마다 explain-interval에 한 번)
+    private List<Map<String, Object>> explain(Invocation invocation, MappedStatement mappedStatement,
+                                              Object parameter, BoundSql boundSql, String sql) {
+        if (!statementTimingProperties.isExplainEnabled()
+                || mappedStatement.getSqlCommandType() != SqlCommandType.SELECT
+                || !sql.regionMatches(true, 0, "SELECT", 0, 6)
+                || !isExplainDue(mappedStatement.getId())) {
+            return null;
+        }
+
+        try {
+            Connection connection = ((Executor) invocation.getTarget()).getTransaction().getConnection();
+
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+                mappedStatement.getConfiguration()
+                        .newParameterHandler(mappedStatement, parameter, boundSql)
+                        .setParameters(statement);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    List<Map<String, Object>> plan = new ArrayList<>();
+
+                    while (resultSet.next()) {
+                        Map<String, Object> row = new LinkedHashMap<>();
+
+                        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                            row.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+                        }
+
+                        plan.add(row);
+                    }
+
+                    return plan;
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Failed to explain {} : {}", mappedStatement.getId(), e.getMessage());
+
+            return null;
+        }
+    }
+
+    private boolean isExplainDue(String statement) {
+        long now = System.currentTimeMillis();
+        AtomicBoolean due = new AtomicBoolean(false);
+
+        explainedAt.compute(statement, (key, last) -> {
+            if (last == null || now - last >= statementTimingProperties.getExplainInterval()) {
+                due.set(true);
+
+                return now;
+            }
+
+            return last;
+        });
+
+        return due.get();
+    }
+
+    private Meters register(String statement, MappedStatement mappedStatement) {
+        String type = mappedStatement.getSqlCommandType().name();
+
+        return new Meters(
+                type,
+                Timer.builder("mybatis.statement")
+                        .tag("statement", statement)
+                        .tag("type", type)
+                        .serviceLevelObjectives(SLO_BUCKETS)
+                        .register(meterRegistry),
+                DistributionSummary.builder("mybatis.statement.rows")
+                        .tag("statement", statement)
+                        .register(meterRegistry),
+                Counter.builder("mybatis.statement.rows.skipped")
+                        .tag("statement", statement)
+                        .register(meterRegistry),
+                Counter.builder("mybatis.statement.slow")
+                        .tag("statement", statement)
+                        .register(meterRegistry)
+        );
+    }
+
+    // 조회 결과(List) 또는 영향받은 행 수(Integer)를 반환하는 메소드 (커서, 배치 실행 등 알 수 없으면 -1)
+    private static long rowsOf(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+
+        return -1L;
+    }
+
+    private record Meters(String type, Timer timer, DistributionSummary rows, Counter skippedRows, Counter slow) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.beyond.university.common.projection;
+
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/*
+    FieldProjection
+      - fields 요청 파라미터(콤마로 구분한 필드 이름)로 응답에 포함할 필드를 선택한다.
+      - 허용된 필드(whitelist)가 아닌 이름이 포함되면 400(Bad Request)으로 응답한다.
+      - 선택한 필드는 대상 리소스의 필터 ID와 함께 요청 속성에 저장되고, FieldProjectionAdvice가 JSON 직렬화할 때
+        그 필터 ID의 @JsonFilter가 지정된 클래스(Department 또는 Subject)의 나머지 필드를 제외한다.
+      - 학과와 과목은 필터 ID가 다르기 때문에 학과의 필드를 선택해도 포함된 과목(expand=subjects)의 필드는 모두 직렬화된다.
+      - 매퍼에 전달하면 SQL의 컬럼 목록도 선택한 필드로 줄일 수 있다. (null이면 모든 컬럼)
+ */
+public final class FieldProjection {
+    public static final String DEPARTMENT_FILTER_ID = "departmentFields";
+    public static final String SUBJECT_FILTER_ID = "subjectFields";
+    public static final String ATTRIBUTE = FieldProjection.class.getName() + ".FIELDS";
+    public static final String FILTER_ATTRIBUTE = FieldProjection.class.getName() + ".FILTER_ID";
+
+    public static final Set<String> DEPARTMENT_FIELDS = Set.of("no", "name", "category", "openYn", "capacity");
+    public static final Set<String> SUBJECT_FIELDS = Set.of("no", "deptNo", "preattendingNo", "name", "type");
+
+    private FieldProjection() {
+    }
+
+    // fields 파라미터를 검증하고 필터 ID와 함께 요청 속성에 저장하는 메소드 (fields가 없으면 null을 반환한다.)
+    public static Set<String> select(String fields, Set<String> whitelist, String filterId, WebRequest webRequest) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            if (!whitelist.contains(name)) {
+                throw new UniversityException(ExceptionMessage.INVALID_FIELDS);
+            }
+
+            selected.add(name);
+        }
+
+        if (selected.isEmpty()) {
+            return null;
+        }
+
+        Set<String> projection = Collections.unmodifiableSet(selected);
+
+        webRequest.setAttribute(ATTRIBUTE, projection, RequestAttributes.SCOPE_REQUEST);
+        webRequest.setAttribute(FILTER_ATTRIBUTE, filterId, RequestAttributes.SCOPE_REQUEST);
+
+        return projection;
+    }
+
+    // SQL에서 항상 조회해야 하는 필드(정렬 키 등)를 추가하는 메소드
+    public static Set<String> with(Set<String> fields, String... required) {
+        if (fields == null) {
+            return null;
+        }
+
+        Set<String> columns = new LinkedHashSet<>(fields);
+
+        Collections.addAll(columns, required);
+
+        return columns;
+    }
+}
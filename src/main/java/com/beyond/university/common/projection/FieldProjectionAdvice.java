@@ -0,0 +1,53 @@
+package com.beyond.university.common.projection;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+    FieldProjectionAdvice
+      - 컨트롤러에서 FieldProjection.select()로 필드를 선택한 경우 선택한 리소스의 필터 ID에만 필터를 적용한다.
+        (다른 필터 ID가 지정된 클래스는 모든 필드를 직렬화한다.)
+      - expand로 포함한 하위 리소스(subjects, subjectCount)는 선택한 필드와 관계없이 포함한다.
+ */
+@RestControllerAdvice
+public class FieldProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    private static final Set<String> ALWAYS_INCLUDED = Set.of("subjects", "subjectCount");
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer,
+                                           MediaType contentType,
+                                           MethodParameter returnType,
+                                           ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+
+        if (!(httpServletRequest.getAttribute(FieldProjection.ATTRIBUTE) instanceof Set<?> fields)
+                || !(httpServletRequest.getAttribute(FieldProjection.FILTER_ATTRIBUTE) instanceof String filterId)) {
+            return;
+        }
+
+        Set<String> included = new HashSet<>(ALWAYS_INCLUDED);
+
+        fields.forEach(field -> included.add(field.toString()));
+
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .setFailOnUnknownId(false)
+                .addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(included)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.beyond.university.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/*
+    RecoverableMessageListenerContainer
+      - 시작할 때 Redis에 연결하지 못해도 애플리케이션 기동을 막지 않는 RedisMessageListenerContainer이다.
+      - 기본 컨테이너는 구독 중에 연결이 끊기면 다시 구독하지만, 최초 구독에 실패하면 다시 시도하지 않는다.
+      - 실행 중인데 구독하고 있지 않으면 주기적으로 컨테이너를 다시 시작해서 구독을 복구한다.
+ */
+@Slf4j
+public class RecoverableMessageListenerContainer extends RedisMessageListenerContainer {
+    @Override
+    public void start() {
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            log.warn("Failed to subscribe Redis channels, retrying later : {}", e.getMessage());
+        }
+    }
+
+    // 최초 구독에 실패해서 구독하지 않고 있는 컨테이너를 다시 시작하는 메소드
+    @Scheduled(fixedDelayString = "${spring.data.redis.listener.recovery-interval:5000}")
+    public void recover() {
+        if (isRunning() && !isListening()) {
+            stop();
+            start();
+
+            if (isListening()) {
+                log.info("Redis channel subscriptions recovered");
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.beyond.university.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    CsvRecords
+      - CSV 한 줄을 컬럼으로 나누거나 컬럼을 CSV 한 줄로 만드는 유틸리티 클래스이다.
+      - 콤마, 큰따옴표가 포함된 컬럼은 큰따옴표로 감싸고 큰따옴표는 ""로 이스케이프한다.
+      - 따옴표 안의 줄바꿈은 지원하지 않는다. (한 줄이 하나의 레코드)
+ */
+public final class CsvRecords {
+
+    private CsvRecords() {
+    }
+
+    // CSV 한 줄을 컬럼으로 나누는 메소드 (각 컬럼의 앞뒤 공백은 제거한다.)
+    public static List<String> split(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    column.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString().trim());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+
+        columns.add(column.toString().trim());
+
+        return columns;
+    }
+
+    // 컬럼 값으로 CSV 한 줄(줄바꿈 제외)을 만드는 메소드 (null은 빈 컬럼)
+    public static String join(Object... values) {
+        StringBuilder line = new StringBuilder();
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+
+            if (values[i] == null) {
+                continue;
+            }
+
+            String value = values[i].toString();
+
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"").replace('\r', ' ').replace('\n', ' ')).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+
+        return line.toString();
+    }
+}
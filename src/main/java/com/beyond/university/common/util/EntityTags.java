@@ -0,0 +1,49 @@
+package com.beyond.university.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/*
+    EntityTags
+      - 리소스의 내용으로 강한 ETag(Strong ETag)를 만들고 If-Match 헤더와 비교하는 유틸리티 클래스이다.
+      - ETag는 리소스를 JSON으로 직렬화하지 않고 필드 값의 해시(SHA-256 앞 16바이트)로 만든다.
+ */
+public final class EntityTags {
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL = "\u0000";
+
+    private EntityTags() {
+    }
+
+    // 필드 값으로 ETag("..." 형식)를 만드는 메소드
+    public static String of(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Object part : parts) {
+            builder.append(part == null ? NULL : part.toString()).append(SEPARATOR);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // If-Match 헤더 값이 ETag와 일치하는지 확인하는 메소드 (강한 비교, "*"는 항상 일치)
+    public static boolean matches(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
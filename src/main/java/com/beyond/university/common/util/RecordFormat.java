@@ -0,0 +1,48 @@
+package com.beyond.university.common.util;
+
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/*
+    RecordFormat
+      - 대량 등록/내보내기에서 사용하는 레코드 형식이다.
+        1. JSON : 하나의 JSON 배열
+        2. NDJSON : 한 줄에 하나의 JSON 객체
+        3. CSV : 첫 줄은 헤더, 한 줄에 하나의 레코드
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RecordFormat {
+    JSON(MediaType.APPLICATION_JSON, "json"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    // 요청 파라미터(json, ndjson, csv)로 형식을 찾는 메소드
+    public static RecordFormat of(String value) {
+        for (RecordFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+
+        throw new UniversityException(ExceptionMessage.UNSUPPORTED_FORMAT);
+    }
+
+    // Content-Type 헤더로 형식을 찾는 메소드
+    public static RecordFormat of(MediaType contentType) {
+        for (RecordFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+
+        throw new UniversityException(ExceptionMessage.UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,89 @@
+package com.beyond.university.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+    RecordWriter
+      - 레코드를 하나씩 받아서 RecordFormat 형식으로 OutputStream에 바로 쓴다.
+      - 레코드를 목록으로 모으지 않기 때문에 레코드 수와 관계없이 메모리 사용량이 일정하다.
+      - close()는 남은 내용(JSON 배열의 끝 등)을 쓰고 flush 하지만 OutputStream은 닫지 않는다.
+ */
+public final class RecordWriter<T> implements Closeable {
+    private final RecordFormat format;
+    private final JsonGenerator generator;
+    private final Writer writer;
+    private final Function<T, Object[]> columns;
+
+    private RecordWriter(RecordFormat format, JsonGenerator generator, Writer writer, Function<T, Object[]> columns) {
+        this.format = format;
+        this.generator = generator;
+        this.writer = writer;
+        this.columns = columns;
+    }
+
+    // header와 columns는 CSV 형식에서만 사용한다.
+    public static <T> RecordWriter<T> open(OutputStream out,
+                                           RecordFormat format,
+                                           ObjectMapper objectMapper,
+                                           List<String> header,
+                                           Function<T, Object[]> columns) throws IOException {
+        if (format == RecordFormat.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            writer.write(CsvRecords.join(header.toArray()));
+            writer.write('\n');
+
+            return new RecordWriter<>(format, null, writer, columns);
+        }
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        if (format == RecordFormat.JSON) {
+            generator.writeStartArray();
+        } else {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        return new RecordWriter<>(format, generator, null, columns);
+    }
+
+    public void write(T record) throws IOException {
+        if (writer != null) {
+            writer.write(CsvRecords.join(columns.apply(record)));
+            writer.write('\n');
+        } else {
+            generator.writeObject(record);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.flush();
+
+            return;
+        }
+
+        if (format == RecordFormat.JSON) {
+            generator.writeEndArray();
+        } else {
+            generator.writeRaw('\n');
+        }
+
+        generator.close();
+    }
+}
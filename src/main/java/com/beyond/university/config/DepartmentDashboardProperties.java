@@ -0,0 +1,20 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("department.dashboard")
+public class DepartmentDashboardProperties {
+    // 학과 대시보드의 모든 섹션을 조회하는 최대 시간(ms), 시간이 지나면 끝나지 않은 섹션을 취소한다.
+    private long timeout = 1_000L;
+
+    // 학과 대시보드에 포함하는 과목의 최대 개수
+    private int maxSubjects = 50;
+}
@@ -0,0 +1,26 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("department.feed")
+public class DepartmentFeedProperties {
+    // 이어서 받기(Last-Event-ID)를 위해 보관하는 최근 변경 이벤트의 최대 개수
+    private int replaySize = 1000;
+
+    // SSE 연결을 유지하는 최대 시간(ms), 시간이 지나면 연결을 종료하고 클라이언트가 다시 연결한다.
+    private long timeout = 1_800_000L;
+
+    // 연결이 끊기지 않도록 주석(heartbeat)을 보내는 주기(ms)
+    private long heartbeatInterval = 15_000L;
+
+    // 클라이언트마다 보내지 못한 이벤트를 보관하는 큐의 크기, 가득 차면 느린 클라이언트로 보고 연결을 종료한다.
+    private int subscriberQueueSize = 256;
+}
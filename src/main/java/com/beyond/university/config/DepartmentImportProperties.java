@@ -0,0 +1,20 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("department.import")
+public class DepartmentImportProperties {
+    // 한 번의 JDBC 배치(트랜잭션)로 등록하는 행의 수
+    private int batchSize = 1000;
+
+    // 응답에 포함하는 행 오류의 최대 개수 (오류 수는 모두 센다.)
+    private int maxErrors = 100;
+}
@@ -0,0 +1,74 @@
+package com.beyond.university.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/*
+    ExportExecutorConfig
+      - StreamingResponseBody(내보내기 응답)를 쓰는 전용 스레드 풀을 생성하고, 내보내기 요청의 비동기 처리에만 사용하도록 설정한다.
+      - 스프링 MVC의 기본 비동기 실행기와 제한 시간은 바꾸지 않고, 내보내기 경로의 요청마다 CallableProcessingInterceptor를 등록해서
+        비동기 처리를 시작하기 직전에 실행기(exportExecutor)와 제한 시간(export.timeout)을 지정한다.
+      - 응답을 쓰는 동안 톰캣 요청 스레드를 반환하기 때문에 오래 걸리는 내보내기가 일반 요청을 처리할 스레드를 점유하지 않는다.
+      - 대기 큐가 가득 차면 TaskRejectedException 예외가 발생하고 503(Service Unavailable)으로 응답한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ExportExecutorConfig implements WebMvcConfigurer {
+    private static final String[] EXPORT_PATHS = {
+            "/api/v1/department-service/departments/export",
+            "/api/v1/department-service/subjects/export"
+    };
+
+    private final ExportProperties exportProperties;
+
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(exportProperties.getPoolSize());
+        executor.setMaxPoolSize(exportProperties.getPoolSize());
+        executor.setQueueCapacity(exportProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("export-");
+        executor.setDaemon(true);
+
+        return executor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        ThreadPoolTaskExecutor executor = exportExecutor();
+        CallableProcessingInterceptor exportInterceptor = new CallableProcessingInterceptor() {
+            // 비동기 처리를 시작하기 전에 호출되기 때문에 이 요청의 실행기와 제한 시간을 바꿀 수 있다.
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(exportProperties.getTimeout());
+                }
+
+                WebAsyncUtils.getAsyncManager(request).setTaskExecutor(executor);
+            }
+        };
+
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportExecutorConfig.class, exportInterceptor);
+
+                return true;
+            }
+        }).addPathPatterns(EXPORT_PATHS);
+    }
+}
@@ -0,0 +1,22 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("export")
+public class ExportProperties {
+    // 동시에 처리하는 내보내기 요청의 수와 대기 큐의 크기
+    private int poolSize = 2;
+
+    private int queueCapacity = 8;
+
+    // 내보내기 응답을 모두 쓸 때까지 기다리는 최대 시간(ms)
+    private long timeout = 600_000L;
+}
@@ -0,0 +1,28 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("id-allocator")
+public class IdAllocatorProperties {
+    // 시퀀스별 블록 크기가 설정되지 않았을 때 사용하는 블록 크기
+    private int defaultBlockSize = 100;
+
+    // 시퀀스 이름 -> 한 번에 할당받는 번호의 개수
+    private Map<String, Integer> blockSize = new HashMap<>();
+
+    public int getBlockSize(String sequence) {
+
+        return blockSize.getOrDefault(sequence, defaultBlockSize);
+    }
+}
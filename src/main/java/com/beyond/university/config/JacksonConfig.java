@@ -0,0 +1,22 @@
+package com.beyond.university.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    JacksonConfig
+      - @JsonFilter가 지정된 클래스(Department, Subject)를 필터 없이 직렬화할 때 예외가 발생하지 않도록
+        기본 필터 제공자를 등록한다. (필터가 없으면 모든 필드를 직렬화한다.)
+      - 캐시(Redis)와 내보내기처럼 필드 선택을 사용하지 않는 직렬화는 항상 모든 필드를 포함한다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterCustomizer() {
+
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
@@ -15,4 +15,7 @@ public class JwtProperties {
     private String issuer;
 
     private String secret;
+
+    // true이면 사용자 정보를 조회하지 않고 액세스 토큰의 클레임(username, roles)만으로 Authentication 객체를 생성한다.
+    private boolean statelessAuthentication = false;
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.beyond.university.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    LoginExecutorConfig
+      - 로그인 시 패스워드 검증(BCrypt)을 처리하는 전용 스레드 풀을 생성한다.
+      - CPU를 많이 사용하는 해싱 작업이 톰캣 요청 스레드를 모두 점유하지 않도록 스레드 수와 대기 큐의 크기를 제한한다.
+      - 대기 큐가 가득 차면 RejectedExecutionException 예외가 발생한다. (AbortPolicy)
+ */
+@Configuration
+public class LoginExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor loginExecutor(LoginProperties loginProperties, MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                loginProperties.getPoolSize(),
+                loginProperties.getPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loginProperties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("login.executor.queue.depth", executor, e -> e.getQueue().size())
+                .description("패스워드 검증 대기 중인 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("login.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("패스워드 검증 중인 스레드 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+}
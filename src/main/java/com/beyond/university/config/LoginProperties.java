@@ -0,0 +1,25 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("login")
+public class LoginProperties {
+    private int poolSize = 4;
+
+    private int queueCapacity = 64;
+
+    private int retryAfterSeconds = 2;
+
+    // 대기 큐에서 기다린 시간을 포함한 패스워드 검증의 최대 시간(ms)
+    private long verifyTimeout = 3_000L;
+
+    private int bcryptStrength = 10;
+}
@@ -1,12 +1,16 @@
 package com.beyond.university.config;
 
+import com.beyond.university.common.redis.RecoverableMessageListenerContainer;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -21,7 +25,7 @@ public class RedisConfig {
     private String password;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         // Redis와 연결을 담당하는 RedisConnectionFactory 빈을 생성
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
 
@@ -29,7 +33,12 @@ public class RedisConfig {
         configuration.setPort(port);
         configuration.setPassword(password);
 
-        return new LettuceConnectionFactory(configuration);
+        // 자동 구성된 ClientResources를 사용해야 Redis 명령의 응답 시간(lettuce.command.*)이 메트릭으로 기록된다.
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+
+        return new LettuceConnectionFactory(configuration, clientConfiguration);
     }
 
     @Bean
@@ -44,4 +53,15 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // Redis Pub/Sub 채널을 구독하고 메시지를 리스너에게 전달하는 빈을 생성
+        // Redis가 내려가 있어도 애플리케이션은 기동되고, 구독은 Redis가 복구되면 다시 시도한다.
+        RedisMessageListenerContainer container = new RecoverableMessageListenerContainer();
+
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.beyond.university.config;
+
+import com.beyond.university.common.datasource.ReadYourWritesFilter;
+import com.beyond.university.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/*
+    ReplicaDataSourceConfig
+      - datasource.replica.url이 설정된 경우에만 동작한다. (설정하지 않으면 자동 구성된 데이터 소스 하나만 사용한다.)
+      - 기본 데이터 소스(spring.datasource)와 복제본(datasource.replica)의 커넥션 풀을 각각 생성하고,
+        트랜잭션의 읽기 전용 여부에 따라 연결을 선택하는 데이터 소스를 MyBatis와 트랜잭션 매니저에서 사용하도록 등록한다.
+      - 커넥션 풀의 세부 설정은 spring.datasource.hikari.*, datasource.replica.hikari.*로 지정한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties replicaDataSourceProperties) {
+
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(replicaDataSourceProperties.getDriverClassName())
+                .url(replicaDataSourceProperties.getUrl())
+                .username(replicaDataSourceProperties.getUsername())
+                .password(replicaDataSourceProperties.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             ReplicaDataSourceProperties replicaDataSourceProperties,
+                                                             MeterRegistry meterRegistry) {
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaDataSourceProperties.getHealthCheckTimeout(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+
+        // 첫 번째 쿼리를 실행할 때 연결을 가져오도록 감싼다. (트랜잭션의 읽기 전용 여부가 설정된 후)
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties replicaDataSourceProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(replicaDataSourceProperties.getStickyWindow()));
+
+        registration.addUrlPatterns("/*");
+
+        return registration;
+    }
+}
@@ -0,0 +1,32 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("datasource.replica")
+public class ReplicaDataSourceProperties {
+    // 읽기 전용 복제본(replica)의 접속 정보 (url이 없으면 모든 요청을 기본 데이터 소스로 처리한다.)
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName = "org.mariadb.jdbc.Driver";
+
+    // 학과를 변경한 클라이언트의 조회를 기본 데이터 소스로 보내는 시간(ms)
+    private long stickyWindow = 5_000L;
+
+    // 복제본의 상태를 확인하는 주기(ms)
+    private long healthCheckInterval = 5_000L;
+
+    // 상태 확인에서 연결이 유효한지 기다리는 최대 시간(초)
+    private int healthCheckTimeout = 2;
+}
@@ -4,6 +4,7 @@ import com.beyond.university.auth.handler.AccessDeniedHandlerImpl;
 import com.beyond.university.auth.handler.AuthenticationEntryPointImpl;
 import com.beyond.university.auth.jwt.JwtAuthenticationFilter;
 import com.beyond.university.auth.jwt.JwtTokenProvider;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -70,6 +71,13 @@ public class SecurityConfig {
                                 // .requestMatchers(HttpMethod.GET, "/api/v1/**").permitAll()
                                 // 모든 DELETE 요청의 경우 관리자만 허용
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/**").hasRole("ADMIN")
+                                // 프로메테우스(Prometheus) 수집 요청 허용
+                                // 액추에이터는 관리 포트(management.server.port)에서만 제공되고, EndpointRequest는 관리 포트로 들어온 요청만 일치한다.
+                                .requestMatchers(EndpointRequest.to("prometheus")).permitAll()
+                                // 문장별 실행 통계(SQL 포함)는 관리자만 허용
+                                .requestMatchers(EndpointRequest.to("statements")).hasRole("ADMIN")
+                                // JFR 기록(스레드, 힙 정보 포함)의 시작, 상태 조회, 다운로드(/actuator/jfr/{id})는 관리자만 허용
+                                .requestMatchers(EndpointRequest.to("jfr")).hasRole("ADMIN")
                                 // 이 외의 모든 요청은 인증이 필요
                                 .anyRequest().authenticated()
                 );
@@ -78,8 +86,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(LoginProperties loginProperties) {
 
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(loginProperties.getBcryptStrength());
     }
 }
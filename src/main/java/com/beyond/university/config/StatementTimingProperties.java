@@ -0,0 +1,32 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("statement-timing")
+public class StatementTimingProperties {
+    // false이면 MyBatis 문장별 실행 시간을 기록하지 않는다. (StatementTimingInterceptor를 등록하지 않는다.)
+    private boolean enabled = true;
+
+    // 이 시간(ms) 이상 걸린 문장을 느린 문장으로 기록한다.
+    private long slowThreshold = 200L;
+
+    // 느린 문장 중 로그로 남기는 비율 (0.0 ~ 1.0)
+    private double slowSampleRate = 1.0;
+
+    // 보관하는 최근 느린 문장의 최대 개수
+    private int maxSlowStatements = 50;
+
+    // true이면 느린 SELECT 문장의 실행 계획(EXPLAIN)을 함께 기록한다.
+    private boolean explainEnabled = false;
+
+    // 같은 문장의 실행 계획을 다시 기록하기까지의 최소 시간(ms)
+    private long explainInterval = 600_000L;
+}
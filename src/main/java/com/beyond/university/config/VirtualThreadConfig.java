@@ -0,0 +1,45 @@
+package com.beyond.university.config;
+
+import com.beyond.university.common.datasource.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    VirtualThreadConfig
+      - spring.threads.virtual.enabled가 true인 경우에만 동작한다.
+        (톰캣 요청 처리, @Async, @Scheduled 등의 스레드는 스프링 부트가 가상 스레드로 바꾼다.)
+      - 모든 커넥션 풀(HikariDataSource)을 ConcurrencyLimitedDataSource로 감싸서 동시에 사용하는 JDBC 연결의 수를
+        스레드 수 대신 세마포어로 제한한다. (virtual-threads.jdbc-permits, jdbc-acquire-timeout)
+      - 로그인(BCrypt)과 내보내기 전용 스레드 풀은 실행 시간이나 동시 실행 수를 제한하기 위한 것이기 때문에 그대로 플랫폼 스레드를 사용한다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 다른 빈보다 먼저 생성되기 때문에 static 메소드로 등록하고, 필요한 빈은 커넥션 풀이 생성될 때 조회한다.
+    @Bean
+    public static BeanPostProcessor jdbcPermitPostProcessor(ObjectProvider<VirtualThreadProperties> virtualThreadProperties,
+                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+
+                VirtualThreadProperties properties = virtualThreadProperties.getObject();
+                int permits = properties.getJdbcPermits() > 0
+                        ? properties.getJdbcPermits() : hikariDataSource.getMaximumPoolSize();
+
+                return new ConcurrencyLimitedDataSource(hikariDataSource, beanName, permits,
+                        properties.getJdbcAcquireTimeout(), meterRegistry.getObject());
+            }
+        };
+    }
+}
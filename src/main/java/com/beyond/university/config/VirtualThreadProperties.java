@@ -0,0 +1,23 @@
+package com.beyond.university.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@NoArgsConstructor
+@ConfigurationProperties("virtual-threads")
+public class VirtualThreadProperties {
+    // 커넥션 풀마다 동시에 사용할 수 있는 JDBC 연결의 수 (0이면 커넥션 풀의 maximum-pool-size)
+    private int jdbcPermits = 0;
+
+    // JDBC 연결을 사용할 수 있을 때까지 기다리는 최대 시간(ms), 초과하면 503으로 응답한다.
+    private long jdbcAcquireTimeout = 2_000L;
+
+    // 가상 스레드가 이 시간(ms) 이상 캐리어 스레드에 고정(pinning)되면 기록한다.
+    private long pinnedThreshold = 20L;
+}
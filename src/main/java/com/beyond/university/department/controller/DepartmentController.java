@@ -3,11 +3,24 @@ package com.beyond.university.department.controller;
 import com.beyond.university.common.exception.UniversityException;
 import com.beyond.university.common.exception.message.ExceptionMessage;
 import com.beyond.university.common.model.dto.BaseResponseDto;
+import com.beyond.university.common.model.dto.CursorItemsResponseDto;
+import com.beyond.university.common.model.dto.CursorPage;
 import com.beyond.university.common.model.dto.ItemsResponseDto;
+import com.beyond.university.common.model.dto.PageResult;
+import com.beyond.university.common.projection.FieldProjection;
+import com.beyond.university.common.util.EntityTags;
+import com.beyond.university.common.util.RecordFormat;
 import com.beyond.university.department.model.dto.DepartmentRequestDto;
+import com.beyond.university.department.model.dto.DepartmentBatchResponseDto;
+import com.beyond.university.department.model.dto.DepartmentDashboard;
+import com.beyond.university.department.model.dto.DepartmentImportResult;
+import com.beyond.university.department.model.service.DepartmentChangeFeed;
+import com.beyond.university.department.model.service.DepartmentDashboardService;
+import com.beyond.university.department.model.service.DepartmentImportService;
 import com.beyond.university.department.model.service.DepartmentService;
 import com.beyond.university.department.model.vo.Department;
 import com.beyond.university.subject.model.service.SubjectService;
+import com.beyond.university.subject.model.vo.DepartmentSubjects;
 import com.beyond.university.subject.model.vo.Subject;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +29,11 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,21 +43,42 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /*
     학과 관련 API
 
     1. 학과 목록 조회
       - GET /api/v1/department-service/departments
+      - expand=subjects를 전달하면 학과마다 과목 목록(최대 50개)을 포함한다. (페이지 전체를 한 번의 쿼리로 조회)
+      - cursor 파라미터를 전달하면 키셋(커서) 페이징으로 조회한다. (첫 페이지는 빈 문자열)
+      - fields=no,name,...을 전달하면 선택한 필드만 조회하고 응답한다.
 
     2. 학과 상세 조회
       - GET /api/v1/department-service/departments/{department-no}
+      - expand=subjects를 전달하면 과목 목록(최대 50개)을 포함한다.
+      - GET /api/v1/department-service/departments/batch?nos=001,002,...
+        여러 학과를 한 번에 조회한다. (캐시에 없는 학과만 하나의 IN 쿼리로 조회)
 
     3. 학과 등록
       - POST /api/v1/department-service/departments
@@ -52,8 +89,39 @@ import java.util.List;
     5. 학과 삭제
       - DELETE /api/v1/department-service/departments/{department-no}
 
+    * 학과 상세/목록 조회는 ETag를 응답하고 If-None-Match 헤더가 일치하면 304(Not Modified)로 응답한다.
+    * 학과 수정/삭제에 If-Match 헤더를 전달하면 조회한 이후 학과가 변경된 경우 412(Precondition Failed)로 응답한다.
+
     6. 학과별 과목 목록 조회
       - GET /api/v1/department-service/departments/{department-no}/subjects
+      - cursor 파라미터를 전달하면 키셋(커서) 페이징으로 조회한다. (첫 페이지는 빈 문자열)
+      - fields=no,name,...을 전달하면 선택한 필드만 조회하고 응답한다.
+
+    7. 선수 과목
+      - GET /api/v1/department-service/subjects/{subject-no}/prerequisites
+      - GET /api/v1/department-service/subjects/{subject-no}/dependents?transitive=true
+      - GET /api/v1/department-service/departments/{department-no}/study-path
+      - 메모리의 선수 과목 그래프(PrerequisiteGraph)로 조회한다.
+
+    8. 학과 대량 등록
+      - POST /api/v1/department-service/departments/import
+      - 요청 본문은 NDJSON(application/x-ndjson) 또는 CSV(text/csv) 형식이고, 스트림으로 읽으면서 배치로 등록한다.
+
+    9. 학과/과목 내보내기
+      - GET /api/v1/department-service/departments/export?format=json|ndjson|csv
+      - GET /api/v1/department-service/subjects/export?format=json|ndjson|csv
+      - DB 커서로 한 행씩 읽어서 응답에 바로 쓴다. (전용 스레드 풀에서 처리)
+
+    10. 학과 변경 피드
+      - GET /api/v1/department-service/departments/changes (text/event-stream)
+      - 학과가 등록, 수정, 삭제되면 시퀀스 번호(SSE id)와 함께 이벤트를 보낸다.
+      - Last-Event-ID 헤더(또는 since)를 전달하면 그 다음 이벤트부터 이어서 받는다.
+        이어서 받을 수 없으면 reset 이벤트를 보내고, 클라이언트는 학과 목록을 다시 조회해야 한다.
+
+    11. 학과 대시보드
+      - GET /api/v1/department-service/departments/{department-no}/dashboard
+      - 학과 정보, 과목 수, 과목 목록을 동시에 조회해서 한 번에 응답한다. (DepartmentDashboardService)
+      - 제한 시간을 넘기거나 실패한 섹션이 있으면 조회한 섹션만 응답하고, 섹션별 상태(sections)에 결과를 표시한다.
  */
 
 @RestController
@@ -61,8 +129,17 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "Departments APIs", description = "학과 관련 API 목록")
 public class DepartmentController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final DepartmentService departmentService;
 
+    private final DepartmentImportService departmentImportService;
+
+    private final DepartmentDashboardService departmentDashboardService;
+
+    private final DepartmentChangeFeed departmentChangeFeed;
+
     private final SubjectService subjectService;
 
     @GetMapping("/departments")
@@ -70,7 +147,11 @@ public class DepartmentController {
     @Parameters({
             @Parameter(name = "page", description = "페이지 번호", example = "1"),
             @Parameter(name = "numOfRows", description = "한 페이지의 결과 수", example = "10"),
-            @Parameter(name = "openYn", description = "개설 여부", example = "Y")
+            @Parameter(name = "openYn", description = "개설 여부", example = "Y"),
+            @Parameter(name = "cursor", description = "다음 페이지 커서 (전달하면 page 대신 커서로 조회, 첫 페이지는 빈 문자열)"),
+            @Parameter(name = "withTotal", description = "전체 결과 수 포함 여부", example = "true"),
+            @Parameter(name = "expand", description = "포함할 하위 리소스 (subjects)", example = "subjects"),
+            @Parameter(name = "fields", description = "응답에 포함할 필드 (no, name, category, openYn, capacity)", example = "no,name")
     })
     @ApiResponses({
             @ApiResponse(
@@ -82,6 +163,15 @@ public class DepartmentController {
                     //         schema = @Schema(implementation = DepartmentsResponseDto.class)
                     // )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "NOT MODIFIED"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "BAD REQUEST",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "UNAUTHORIZED",
@@ -93,16 +183,56 @@ public class DepartmentController {
                     content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             )
     })
-    public ResponseEntity<ItemsResponseDto<Department>> getDepartments(@RequestParam int page,
-                                                                       @RequestParam int numOfRows,
-                                                                       @RequestParam(required = false) String openYn) {
+    public ResponseEntity<BaseResponseDto<Department>> getDepartments(@RequestParam(defaultValue = "1") int page,
+                                                                      @RequestParam int numOfRows,
+                                                                      @RequestParam(required = false) String openYn,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "true") boolean withTotal,
+                                                                      @RequestParam(required = false) String expand,
+                                                                      @RequestParam(required = false) String fields,
+                                                                      @Parameter(hidden = true) WebRequest webRequest) {
+        boolean expandSubjects = isExpandSubjects(expand);
+        Set<String> projection = FieldProjection.select(fields, FieldProjection.DEPARTMENT_FIELDS,
+                FieldProjection.DEPARTMENT_FILTER_ID, webRequest);
+
+        checkNumOfRows(numOfRows);
+
+        if (cursor != null) {
+            CursorPage<Department> cursorPage = departmentService.getDepartments(cursor, numOfRows, openYn, projection);
+
+            if (cursorPage.getItems().isEmpty()) {
+                throw new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND);
+            }
 
-        int totalCount = departmentService.getTotalCount(openYn);
-        List<Department> departments = departmentService.getDepartments(page, numOfRows, openYn);
+            if (expandSubjects) {
+                expandSubjects(cursorPage.getItems());
+            }
+
+            // 응답 본문을 직렬화하기 전에 ETag를 비교해서 변경되지 않았으면 304로 응답한다.
+            if (webRequest.checkNotModified(listEtag(cursorPage.getItems(), cursor, cursorPage.getNextCursor(), projection))) {
+                return null;
+            }
+
+            return ResponseEntity.ok(new CursorItemsResponseDto<>(HttpStatus.OK, cursorPage));
+        }
+
+        checkPage(page);
+
+        // 페이지의 행과 전체 결과 수를 한 번의 쿼리로 조회한다. (전체 결과 수는 캐시된 값을 사용할 수 있다.)
+        PageResult<Department> pageResult = departmentService.getDepartmentPage(page, numOfRows, openYn, withTotal, projection);
+        List<Department> departments = pageResult.getItems();
 
         if (!departments.isEmpty()) {
+            if (expandSubjects) {
+                expandSubjects(departments);
+            }
+
+            if (webRequest.checkNotModified(listEtag(departments, page, pageResult.getTotalCount(), projection))) {
+                return null;
+            }
+
             return ResponseEntity.ok(
-                    new ItemsResponseDto<>(HttpStatus.OK, departments, page, totalCount)
+                    new ItemsResponseDto<>(HttpStatus.OK, departments, page, pageResult.getTotalCount())
             );
         } else {
             throw new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND);
@@ -117,6 +247,10 @@ public class DepartmentController {
                     description = "OK",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "NOT MODIFIED"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "UNAUTHORIZED",
@@ -134,13 +268,84 @@ public class DepartmentController {
             )
     })
     public ResponseEntity<BaseResponseDto<Department>> getDepartment(
-            @Parameter(description = "학과 번호", example = "001") @PathVariable("department-no") String deptNo) {
+            @Parameter(description = "학과 번호", example = "001") @PathVariable("department-no") String deptNo,
+            @Parameter(description = "포함할 하위 리소스 (subjects)", example = "subjects") @RequestParam(required = false) String expand,
+            @Parameter(description = "응답에 포함할 필드 (no, name, category, openYn, capacity)", example = "no,name") @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        boolean expandSubjects = isExpandSubjects(expand);
+        // 상세 조회는 캐시된 학과를 사용하기 때문에 필드 선택은 JSON 직렬화에서만 적용된다.
+        Set<String> projection = FieldProjection.select(fields, FieldProjection.DEPARTMENT_FIELDS,
+                FieldProjection.DEPARTMENT_FILTER_ID, webRequest);
         Department department = departmentService.getDepartmentByNo(deptNo)
                 .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
 
+        if (expandSubjects) {
+            expandSubjects(List.of(department));
+        }
+
+        // If-None-Match 헤더가 ETag와 일치하면 본문 없이 304(Not Modified)로 응답한다.
+        // 필드를 선택한 경우 응답 본문이 달라지기 때문에 선택한 필드도 ETag에 포함한다.
+        if (webRequest.checkNotModified(projection == null ? department.etag() : EntityTags.of(department.etag(), projection))) {
+            return null;
+        }
+
         return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, department));
     }
 
+    @GetMapping("/departments/batch")
+    @Operation(summary = "학과 일괄 조회", description = "여러 학과 번호로 학과 정보를 한 번에 조회한다. (최대 100개)")
+    @Parameter(name = "nos", description = "학과 번호 목록 (콤마로 구분하거나 반복)", example = "001,002,003")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK (찾을 수 없는 학과 번호는 missing에 포함된다.)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "BAD REQUEST",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "INTERNAL SERVER ERROR",
+                    content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<DepartmentBatchResponseDto>> getDepartmentsByNos(@RequestParam List<String> nos) {
+        Set<String> deptNos = new LinkedHashSet<>();
+
+        for (String deptNo : nos) {
+            if (!deptNo.isBlank()) {
+                deptNos.add(deptNo.trim());
+            }
+        }
+
+        if (deptNos.size() > MAX_BATCH_SIZE) {
+            throw new UniversityException(ExceptionMessage.DEPARTMENT_BATCH_LIMIT_EXCEEDED);
+        }
+
+        Map<String, Department> found = deptNos.isEmpty() ? Map.of() : departmentService.getDepartmentsByNos(deptNos);
+        Map<String, Department> departments = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        // 요청한 순서대로 응답한다.
+        for (String deptNo : deptNos) {
+            if (found.containsKey(deptNo)) {
+                departments.put(deptNo, found.get(deptNo));
+            } else {
+                missing.add(deptNo);
+            }
+        }
+
+        return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, new DepartmentBatchResponseDto(departments, missing)));
+    }
+
     @PostMapping("/departments")
     @Operation(summary = "학과 등록", description = "학과 정보를 JSON 문자열로 받아서 등록한다.")
     @ApiResponses({
@@ -177,6 +382,136 @@ public class DepartmentController {
                 .body(new BaseResponseDto<>(HttpStatus.CREATED, department));
     }
 
+    @GetMapping(value = "/departments/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "학과 변경 피드", description = "학과 등록, 수정, 삭제 이벤트를 SSE(Server-Sent Events)로 받는다.")
+    @Parameters({
+            @Parameter(name = "since", description = "마지막으로 받은 시퀀스 번호 (Last-Event-ID 헤더가 있으면 헤더를 사용)", example = "0"),
+            @Parameter(name = "Last-Event-ID", description = "마지막으로 받은 시퀀스 번호 (EventSource가 다시 연결할 때 전달)")
+    })
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "INTERNAL SERVER ERROR",
+                    content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public SseEmitter getDepartmentChanges(@RequestParam(required = false) Long since,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return departmentChangeFeed.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+    @GetMapping("/departments/export")
+    @Operation(summary = "학과 내보내기", description = "전체 학과를 JSON, NDJSON 또는 CSV 형식으로 내보낸다.")
+    @Parameter(name = "format", description = "형식 (json, ndjson, csv)", example = "csv")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "BAD REQUEST",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "SERVICE UNAVAILABLE",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportDepartments(@RequestParam(defaultValue = "json") String format) {
+        RecordFormat recordFormat = RecordFormat.of(format);
+
+        return export("departments", recordFormat, out -> departmentService.exportDepartments(out, recordFormat));
+    }
+
+    @GetMapping("/subjects/export")
+    @Operation(summary = "과목 내보내기", description = "전체 과목을 JSON, NDJSON 또는 CSV 형식으로 내보낸다.")
+    @Parameter(name = "format", description = "형식 (json, ndjson, csv)", example = "csv")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "BAD REQUEST",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "SERVICE UNAVAILABLE",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportSubjects(@RequestParam(defaultValue = "json") String format) {
+        RecordFormat recordFormat = RecordFormat.of(format);
+
+        return export("subjects", recordFormat, out -> subjectService.exportSubjects(out, recordFormat));
+    }
+
+    @PostMapping(value = "/departments/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    @Operation(
+            summary = "학과 대량 등록",
+            description = "NDJSON 또는 CSV(name,category,openYn,capacity) 형식의 학과 목록을 스트림으로 읽어서 배치로 등록한다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK (실패한 행은 응답의 errors에 포함된다.)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "415",
+                    description = "UNSUPPORTED MEDIA TYPE",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "INTERNAL SERVER ERROR",
+                    content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<DepartmentImportResult>> importDepartments(
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        RecordFormat format = RecordFormat.of(contentType);
+
+        // 요청 본문을 한 번에 읽지 않고 한 줄씩 읽으면서 처리한다.
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            DepartmentImportResult result = departmentImportService.importDepartments(reader, format);
+
+            return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, result));
+        }
+    }
+
     @PutMapping("/departments/{department-no}")
     @Operation(summary = "학과 정보 수정", description = "학과 정보를 JSON 문자열로 받아서 수정한다.")
     @ApiResponses({
@@ -200,6 +535,11 @@ public class DepartmentController {
                     description = "NOT FOUND",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "PRECONDITION FAILED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "INTERNAL SERVER ERROR",
@@ -209,18 +549,39 @@ public class DepartmentController {
     // public ResponseEntity<Void> updateDepartment(
     public ResponseEntity<BaseResponseDto<Department>> updateDepartment(
             @Parameter(description = "학과 번호", example = "001") @PathVariable("department-no") String deptNo,
-            @Valid @RequestBody DepartmentRequestDto requestDto) {
+            @Valid @RequestBody DepartmentRequestDto requestDto,
+            @Parameter(description = "조회할 때 받은 ETag") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        Department department = departmentService.getDepartmentByNo(deptNo)
-                .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
+        Department department;
 
-        department.setDepartment(requestDto);
+        if (ifMatch != null) {
+            // 캐시된 학과는 이미 변경되었을 수 있기 때문에 DB에서 현재 학과를 조회해서 ETag를 비교한다.
+            department = departmentService.getCurrentDepartmentByNo(deptNo)
+                    .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
 
-        departmentService.save(department);
+            Department expected = checkIfMatch(ifMatch, department);
+
+            department.setDepartment(requestDto);
+
+            // 조회한 이후 다른 요청이 학과를 변경했다면 UPDATE 문장에서 거부된다.
+            if (!departmentService.updateIfUnchanged(department, expected)) {
+                throw new UniversityException(ExceptionMessage.DEPARTMENT_MODIFIED);
+            }
+        } else {
+            department = requestDto.toDepartment();
+            department.setNo(deptNo);
+
+            // 미리 조회하지 않고 UPDATE 문장의 영향받은 행 수로 학과가 있는지 확인한다.
+            if (!departmentService.update(department)) {
+                throw new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND);
+            }
+        }
 
         // return ResponseEntity.ok().build();
         // return ResponseEntity.noContent().build();
-        return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, department));
+        return ResponseEntity.ok()
+                .eTag(department.etag())
+                .body(new BaseResponseDto<>(HttpStatus.OK, department));
     }
 
     @DeleteMapping("/departments/{department-no}")
@@ -241,6 +602,11 @@ public class DepartmentController {
                     description = "NOT FOUND",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "PRECONDITION FAILED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "INTERNAL SERVER ERROR",
@@ -249,22 +615,74 @@ public class DepartmentController {
     })
     // public ResponseEntity<Void> deleteDepartment(@PathVariable("department-no") String deptNo) {
     public ResponseEntity<BaseResponseDto<Department>> deleteDepartment(
-            @Parameter(description = "학과 번호", example = "064") @PathVariable("department-no") String deptNo) {
-        Department department = departmentService.getDepartmentByNo(deptNo)
-                .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
+            @Parameter(description = "학과 번호", example = "064") @PathVariable("department-no") String deptNo,
+            @Parameter(description = "조회할 때 받은 ETag") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Department department;
+
+        if (ifMatch != null) {
+            // 캐시된 학과는 이미 변경되었을 수 있기 때문에 DB에서 현재 학과를 조회해서 ETag를 비교한다.
+            department = departmentService.getCurrentDepartmentByNo(deptNo)
+                    .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
 
-        departmentService.delete(department.getNo());
+            // 조회한 이후 다른 요청이 학과를 변경했다면 DELETE 문장에서 거부된다.
+            if (!departmentService.deleteIfUnchanged(checkIfMatch(ifMatch, department))) {
+                throw new UniversityException(ExceptionMessage.DEPARTMENT_MODIFIED);
+            }
+        } else {
+            // DELETE ... RETURNING으로 삭제된 학과를 받아서 응답한다. (삭제된 행이 없으면 404)
+            department = departmentService.delete(deptNo)
+                    .orElseThrow(() -> new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND));
+        }
 
         // return ResponseEntity.noContent().build();
         return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, department));
     }
 
+    @GetMapping("/departments/{department-no}/dashboard")
+    @Operation(summary = "학과 대시보드 조회", description = "학과 정보, 과목 수, 과목 목록을 동시에 조회한다. 일부 섹션만 조회한 경우 sections에 섹션별 상태를 표시한다.")
+    @Parameters({
+            @Parameter(name = "department-no", description = "학과 번호", example = "001"),
+            @Parameter(name = "numOfSubjects", description = "포함할 과목의 수 (최대 department.dashboard.max-subjects)", example = "10")
+    })
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "NOT FOUND",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "INTERNAL SERVER ERROR",
+                    content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<DepartmentDashboard>> getDashboard(
+            @PathVariable("department-no") String deptNo,
+            @RequestParam(defaultValue = "10") int numOfSubjects) {
+        DepartmentDashboard dashboard = departmentDashboardService.getDashboard(deptNo, numOfSubjects);
+
+        return ResponseEntity.ok(new BaseResponseDto<>(HttpStatus.OK, dashboard));
+    }
+
     @GetMapping("/departments/{department-no}/subjects")
     @Operation(summary = "학과별 과목 목록 조회", description = "학과 번호로 해당 학과에 포함된 과목들을 조회한다.")
     @Parameters({
             @Parameter(name = "department-no", description = "학과 번호", example = "001"),
             @Parameter(name = "page", description = "페이지 번호", example = "1"),
-            @Parameter(name = "numOfRows", description = "한 페이지의 결과 수", example = "10")
+            @Parameter(name = "numOfRows", description = "한 페이지의 결과 수", example = "10"),
+            @Parameter(name = "cursor", description = "다음 페이지 커서 (전달하면 page 대신 커서로 조회, 첫 페이지는 빈 문자열)"),
+            @Parameter(name = "withTotal", description = "전체 결과 수 포함 여부", example = "true"),
+            @Parameter(name = "fields", description = "응답에 포함할 필드 (no, deptNo, preattendingNo, name, type)", example = "no,name")
     })
     @ApiResponses({
             @ApiResponse(
@@ -272,6 +690,11 @@ public class DepartmentController {
                     description = "OK",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "BAD REQUEST",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "UNAUTHORIZED",
@@ -288,19 +711,212 @@ public class DepartmentController {
                     content =  @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
             )
     })
-    public ResponseEntity<ItemsResponseDto<Subject>> getSubjects(
-            @PathVariable("department-no") String deptNo, @RequestParam int page, @RequestParam int numOfRows) {
+    public ResponseEntity<BaseResponseDto<Subject>> getSubjects(
+            @PathVariable("department-no") String deptNo,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam int numOfRows,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        Set<String> projection = FieldProjection.select(fields, FieldProjection.SUBJECT_FIELDS,
+                FieldProjection.SUBJECT_FILTER_ID, webRequest);
+
+        checkNumOfRows(numOfRows);
+
+        if (cursor != null) {
+            CursorPage<Subject> cursorPage = subjectService.getSubjectsByDeptNo(deptNo, cursor, numOfRows, projection);
+
+            if (cursorPage.getItems().isEmpty()) {
+                throw new UniversityException(ExceptionMessage.SUBJECT_NOT_FOUND);
+            }
+
+            return ResponseEntity.ok(new CursorItemsResponseDto<>(HttpStatus.OK, cursorPage));
+        }
+
+        checkPage(page);
 
-        int totalCount = subjectService.getCountByDeptNo(deptNo);
-        List<Subject> subjects = subjectService.getSubjectsByDeptNo(deptNo, page, numOfRows);
+        PageResult<Subject> pageResult = subjectService.getSubjectPage(deptNo, page, numOfRows, withTotal, projection);
+        List<Subject> subjects = pageResult.getItems();
 
         if (!subjects.isEmpty()) {
-            return ResponseEntity.ok(new ItemsResponseDto<>(HttpStatus.OK, subjects, page, totalCount));
+            return ResponseEntity.ok(new ItemsResponseDto<>(HttpStatus.OK, subjects, page, pageResult.getTotalCount()));
         } else {
             throw new UniversityException(ExceptionMessage.SUBJECT_NOT_FOUND);
         }
     }
 
+    @GetMapping("/subjects/{subject-no}/prerequisites")
+    @Operation(summary = "선수 과목 조회", description = "과목을 수강하기 위해 필요한 선수 과목을 가까운 순서로 모두 조회한다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "NOT FOUND",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "CONFLICT (선수 과목 관계에 순환이 있는 경우)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<Subject>> getPrerequisites(
+            @Parameter(description = "과목 번호", example = "C0405500") @PathVariable("subject-no") String subjectNo) {
+        List<Subject> subjects = subjectService.getPrerequisites(subjectNo);
+
+        return ResponseEntity.ok(new ItemsResponseDto<>(HttpStatus.OK, subjects, 1, subjects.size()));
+    }
+
+    @GetMapping("/subjects/{subject-no}/dependents")
+    @Operation(summary = "후속 과목 조회", description = "과목을 선수 과목으로 하는 과목을 조회한다.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "NOT FOUND",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "CONFLICT (선수 과목 관계에 순환이 있는 경우)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<Subject>> getDependents(
+            @Parameter(description = "과목 번호", example = "C0405500") @PathVariable("subject-no") String subjectNo,
+            @Parameter(description = "간접적으로 의존하는 과목 포함 여부", example = "true")
+            @RequestParam(defaultValue = "true") boolean transitive) {
+        List<Subject> subjects = subjectService.getDependents(subjectNo, transitive);
+
+        return ResponseEntity.ok(new ItemsResponseDto<>(HttpStatus.OK, subjects, 1, subjects.size()));
+    }
+
+    @GetMapping("/departments/{department-no}/study-path")
+    @Operation(
+            summary = "학과 이수 순서 조회",
+            description = "학과의 과목과 그 선수 과목을 선수 과목이 먼저 오도록 정렬해서 조회한다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "UNAUTHORIZED",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "NOT FOUND",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "CONFLICT (선수 과목 관계에 순환이 있는 경우)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            )
+    })
+    public ResponseEntity<BaseResponseDto<Subject>> getStudyPath(
+            @Parameter(description = "학과 번호", example = "001") @PathVariable("department-no") String deptNo) {
+        List<Subject> subjects = subjectService.getStudyPath(deptNo);
+
+        if (subjects.isEmpty()) {
+            throw new UniversityException(ExceptionMessage.SUBJECT_NOT_FOUND);
+        }
+
+        return ResponseEntity.ok(new ItemsResponseDto<>(HttpStatus.OK, subjects, 1, subjects.size()));
+    }
+
+    private boolean isExpandSubjects(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+
+        if (!"subjects".equals(expand.trim())) {
+            throw new UniversityException(ExceptionMessage.INVALID_EXPAND);
+        }
+
+        return true;
+    }
+
+    // 학과 목록의 과목을 한 번의 쿼리로 조회해서 각 학과에 포함하는 메소드
+    private void expandSubjects(List<Department> departments) {
+        Map<String, DepartmentSubjects> subjects = subjectService.getSubjectsByDeptNos(
+                departments.stream().map(Department::getNo).toList());
+
+        for (Department department : departments) {
+            DepartmentSubjects departmentSubjects = subjects.get(department.getNo());
+
+            department.setSubjects(departmentSubjects != null ? departmentSubjects.getSubjects() : List.of());
+            department.setSubjectCount(departmentSubjects != null ? departmentSubjects.getTotalCount() : 0);
+        }
+    }
+
+    // 내보내기 응답을 만드는 메소드 (body는 요청 스레드가 아닌 exportExecutor에서 실행된다.)
+    private ResponseEntity<StreamingResponseBody> export(String name, RecordFormat format, StreamingResponseBody body) {
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
+    // 페이지 번호가 1 이상인지 확인하는 메소드 (0 이하이면 LIMIT의 offset이 음수가 된다.)
+    private static void checkPage(int page) {
+        if (page < 1) {
+            throw new UniversityException(ExceptionMessage.INVALID_PAGE);
+        }
+    }
+
+    // 한 페이지의 결과 수가 1 이상인지 확인하는 메소드 (0 이하이면 커서와 LIMIT을 계산할 수 없다.)
+    private static void checkNumOfRows(int numOfRows) {
+        if (numOfRows < 1) {
+            throw new UniversityException(ExceptionMessage.INVALID_NUM_OF_ROWS);
+        }
+    }
+
+    // If-Match 헤더가 현재 학과의 ETag와 일치하는지 확인하고, 조건부 수정/삭제에 사용할 현재 학과 정보의 복사본을 반환하는 메소드
+    private Department checkIfMatch(String ifMatch, Department department) {
+        if (!EntityTags.matches(ifMatch, department.etag())) {
+            throw new UniversityException(ExceptionMessage.DEPARTMENT_MODIFIED);
+        }
+
+        return department.toBuilder().build();
+    }
+
+    // 학과 목록 페이지의 ETag를 만드는 메소드 (각 학과의 ETag와 페이지 정보로 만든다.)
+    private String listEtag(List<Department> departments, Object... pageInfo) {
+
+        return EntityTags.of(Stream.concat(
+                Stream.of(pageInfo),
+                departments.stream().map(Department::etag)
+        ).toArray());
+    }
+
 //    @ExceptionHandler(Exception.class)
 //    public ResponseEntity<Object> handleException(Exception e) {
 //        Map<String, Object> map = new HashMap<>();
@@ -0,0 +1,29 @@
+package com.beyond.university.department.event;
+
+import com.beyond.university.department.model.vo.Department;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/*
+    DepartmentChangedEvent
+      - DepartmentServiceImpl에서 학과가 등록, 수정, 삭제되었을 때 발행하는 이벤트이다.
+      - 캐시 무효화 등 학과 변경에 반응해야 하는 기능은 이 이벤트를 구독한다.
+      - 트랜잭션이 커밋된 후에 처리하려면 @TransactionalEventListener를 사용한다.
+      - 대량 등록(IMPORTED)은 행마다 발행하지 않고 한 번만 발행하며, deptNo와 department는 null이다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DepartmentChangedEvent {
+    public enum Type {
+        CREATED, UPDATED, DELETED, IMPORTED
+    }
+
+    private final Type type;
+
+    private final String deptNo;
+
+    // 변경된 학과 정보 (삭제된 경우 null)
+    private final Department department;
+}
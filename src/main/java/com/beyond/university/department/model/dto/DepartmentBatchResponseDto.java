@@ -0,0 +1,21 @@
+package com.beyond.university.department.model.dto;
+
+import com.beyond.university.department.model.vo.Department;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DepartmentBatchResponseDto {
+    @Schema(description = "학과 번호 -> 학과 정보 (요청한 순서)")
+    private final Map<String, Department> departments;
+
+    @Schema(description = "찾을 수 없는 학과 번호", example = "[\"999\"]")
+    private final List<String> missing;
+}
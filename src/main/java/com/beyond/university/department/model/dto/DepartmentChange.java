@@ -0,0 +1,34 @@
+package com.beyond.university.department.model.dto;
+
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.vo.Department;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/*
+    DepartmentChange
+      - 학과 변경 피드(SSE)로 전달하는 이벤트이다.
+      - sequence는 모든 노드에서 단조 증가하는 번호이고, SSE 이벤트의 id로 사용한다.
+      - 대량 등록(IMPORTED)은 deptNo와 department가 null이다. (클라이언트는 목록을 다시 조회해야 한다.)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DepartmentChange {
+    // 발행할 때 Redis에서 발급한다. (발행 전에는 null)
+    private Long sequence;
+
+    private DepartmentChangedEvent.Type type;
+
+    private String deptNo;
+
+    // 변경된 학과 정보 (삭제, 대량 등록인 경우 null)
+    private Department department;
+
+    private long occurredAt;
+}
@@ -0,0 +1,53 @@
+package com.beyond.university.department.model.dto;
+
+import com.beyond.university.department.model.vo.Department;
+import com.beyond.university.subject.model.vo.Subject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DepartmentDashboard {
+    @Schema(description = "학과 정보 (조회하지 못하면 null)")
+    private final Department department;
+
+    @Schema(description = "과목 수 (조회하지 못하면 null)", example = "12")
+    private final Integer subjectCount;
+
+    @Schema(description = "과목 목록 (최대 department.dashboard.max-subjects 개, 조회하지 못하면 null)")
+    private final List<Subject> subjects;
+
+    @Schema(description = "섹션(department, subjectCount, subjects)별 조회 상태")
+    private final Map<String, Section> sections;
+
+    public enum Status {
+        // 조회 성공
+        OK,
+        // 조회 중 예외 발생
+        FAILED,
+        // 제한 시간(department.dashboard.timeout) 초과
+        TIMEOUT,
+        // 다른 섹션이 실패해서 취소
+        CANCELLED
+    }
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class Section {
+        @Schema(description = "조회 상태", example = "OK")
+        private final Status status;
+
+        @Schema(description = "조회에 걸린 시간(ms)", example = "12")
+        private final long elapsedMillis;
+
+        @Schema(description = "실패한 경우 오류 코드", example = "INTERNAL_ERROR")
+        private final String error;
+    }
+}
@@ -0,0 +1,36 @@
+package com.beyond.university.department.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DepartmentImportResult {
+    @Schema(description = "처리한 행의 수", example = "100000")
+    private final long total;
+
+    @Schema(description = "등록된 행의 수", example = "99998")
+    private final long imported;
+
+    @Schema(description = "실패한 행의 수", example = "2")
+    private final long failed;
+
+    @Schema(description = "실패한 행의 오류 (최대 department.import.max-errors 개)")
+    private final List<RowError> errors;
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class RowError {
+        @Schema(description = "행 번호 (1부터 시작)", example = "42")
+        private final long line;
+
+        @Schema(description = "오류 메시지", example = "name(공백일 수 없습니다)")
+        private final String message;
+    }
+}
@@ -1,12 +1,17 @@
 package com.beyond.university.department.model.mapper;
 
+import com.beyond.university.common.model.dto.KeysetCursor;
+import com.beyond.university.common.model.vo.PagedRow;
 import com.beyond.university.department.model.vo.Department;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Mapper
 public interface DepartmentMapper {
@@ -15,11 +20,32 @@ public interface DepartmentMapper {
 
     List<Department> selectAll(@Param("openYn") String openYn, RowBounds rowBounds);
 
+    List<PagedRow<Department>> selectPage(@Param("openYn") String openYn,
+                                          @Param("withCount") boolean withCount,
+                                          @Param("offset") int offset,
+                                          @Param("limit") int limit,
+                                          @Param("fields") Set<String> fields);
+
+    List<Department> selectAllAfter(@Param("openYn") String openYn,
+                                    @Param("cursor") KeysetCursor cursor,
+                                    @Param("limit") int limit,
+                                    @Param("fields") Set<String> fields);
+
+    Cursor<Department> selectAllCursor();
+
     Optional<Department> selectDepartmentByNo(@Param("deptNo") String deptNo);
 
+    List<Department> selectDepartmentsByNos(@Param("deptNos") Collection<String> deptNos);
+
+    long selectMaxDepartmentNo();
+
     void insertDepartment(Department department);
 
-    void updateDepartment(Department department);
+    int updateDepartment(Department department);
+
+    int updateDepartmentIfUnchanged(@Param("department") Department department, @Param("expected") Department expected);
+
+    Optional<Department> deleteDepartment(@Param("deptNo") String deptNo);
 
-    void deleteDepartment(@Param("deptNo") String deptNo);
+    int deleteDepartmentIfUnchanged(@Param("expected") Department expected);
 }
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.vo.Department;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/*
+    DepartmentCache
+      - 학과 번호로 조회한 학과 정보를 2단계로 캐싱한다.
+        1. L1 : 노드 로컬 메모리 캐시 (크기와 TTL 제한)
+        2. L2 : 모든 노드가 공유하는 레디스(Redis) 캐시 ("department:{학과 번호}", JSON 문자열)
+      - 학과가 변경되면 트랜잭션이 커밋된 후 L2를 삭제하고, Redis Pub/Sub("department-cache" 채널)으로
+        다른 노드의 L1을 제거한다. (학과를 일괄 등록한 경우처럼 변경된 학과를 특정할 수 없으면 모든 노드의 L1 전체를 제거한다.)
+      - 메시지에는 발행한 노드의 식별자가 포함되어 있어서 자신이 발행한 메시지는 처리하지 않는다.
+      - 캐시된 객체는 수정될 수 있기 때문에 항상 복사본을 반환한다.
+      - 여러 학과를 한 번에 조회하면 L1에 없는 학과는 MGET 한 번, L2에도 없는 학과는 loader 한 번으로 조회하고
+        스크립트 한 번으로 L2에 저장한다.
+      - L2에는 학과마다 버전("department-version:{학과 번호}")을 두고, 학과가 변경되면 버전을 올린 후 캐시를 삭제한다.
+        L2에 없어서 DB에서 조회한 학과는 조회 전에 읽은 버전이 그대로일 때만 L2에 저장하기 때문에,
+        조회하는 동안 학과가 변경되어도 변경 전의 내용이 L2에 다시 저장되지 않는다.
+ */
+@Slf4j
+@Component
+public class DepartmentCache implements MessageListener {
+    private static final String KEY_PREFIX = "department:";
+    private static final String VERSION_KEY_PREFIX = "department-version:";
+    // 버전 키가 없는 학과의 버전 (한 번도 변경되지 않았거나 버전 키가 만료된 경우)
+    private static final String INITIAL_VERSION = "0";
+    public static final ChannelTopic CHANNEL = new ChannelTopic("department-cache");
+    // 특정 학과가 아닌 L1 전체를 제거하라는 메시지 (학과 번호는 숫자이기 때문에 겹치지 않는다.)
+    static final String REFRESH_ALL = "*";
+    // 메시지를 발행한 노드를 구분하는 식별자 (메시지 형식 - {노드 식별자}:{학과 번호 또는 *})
+    private static final String NODE_ID = UUID.randomUUID().toString();
+    private static final Duration L1_TIME_TO_LIVE = Duration.ofMinutes(1);
+    private static final Duration L2_TIME_TO_LIVE = Duration.ofMinutes(10);
+    // 버전 키는 DB 조회가 끝날 때까지 남아 있어야 하기 때문에 L2와 같은 시간 동안 유지한다.
+    private static final Duration VERSION_TIME_TO_LIVE = L2_TIME_TO_LIVE;
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/put-department-cache.lua"), Long.class);
+    private static final RedisScript<Long> EVICT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/evict-department-cache.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Department> localCache;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+
+    public DepartmentCache(RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(L1_TIME_TO_LIVE)
+                .recordStats()
+                .build();
+        this.l2HitCounter = Counter.builder("department.cache.l2").tag("result", "hit").register(meterRegistry);
+        this.l2MissCounter = Counter.builder("department.cache.l2").tag("result", "miss").register(meterRegistry);
+
+        // L1 캐시의 hit, miss, eviction 메트릭을 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "department.l1");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+
+        redisMessageListenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    // 캐시에서 학과 정보를 조회하고, 없으면 loader로 조회해서 캐시에 저장하는 메소드
+    public Optional<Department> get(String deptNo, Function<String, Optional<Department>> loader) {
+        Department department = localCache.get(deptNo, key -> {
+            Map<String, String> versions = new HashMap<>();
+            Map<String, Department> found = getAllFromRedis(Set.of(key), versions);
+
+            if (found.containsKey(key)) {
+                return found.get(key);
+            }
+
+            Department loaded = loader.apply(key).orElse(null);
+
+            if (loaded != null) {
+                putAllToRedis(Map.of(key, loaded), versions);
+            }
+
+            return loaded;
+        });
+
+        return Optional.ofNullable(department).map(cached -> cached.toBuilder().build());
+    }
+
+    // 여러 학과를 캐시에서 조회하고, 캐시에 없는 학과만 loader로 한 번에 조회해서 캐시에 저장하는 메소드
+    // (반환되는 Map에는 찾은 학과만 포함된다.)
+    public Map<String, Department> getAll(Set<String> deptNos, Function<Set<String>, Map<String, Department>> loader) {
+        Map<String, Department> departments = localCache.getAll(deptNos, keys -> {
+            Map<String, String> versions = new HashMap<>();
+            Map<String, Department> found = getAllFromRedis(keys, versions);
+            Set<String> missing = new HashSet<>(keys);
+
+            missing.removeAll(found.keySet());
+
+            if (!missing.isEmpty()) {
+                Map<String, Department> loaded = loader.apply(missing);
+
+                putAllToRedis(loaded, versions);
+                found.putAll(loaded);
+            }
+
+            return found;
+        });
+
+        Map<String, Department> copies = new LinkedHashMap<>();
+
+        departments.forEach((deptNo, department) -> copies.put(deptNo, department.toBuilder().build()));
+
+        return copies;
+    }
+
+    // 트랜잭션이 커밋된 후 변경된 학과의 L2 버전을 올리고 L2에서 삭제한 후 모든 노드의 L1에서 제거하는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(DepartmentChangedEvent event) {
+        String deptNo = event.getDeptNo();
+
+        // 변경된 학과를 특정할 수 없는 경우 (예: 일괄 등록)
+        if (deptNo == null) {
+            localCache.invalidateAll();
+
+            try {
+                redisTemplate.convertAndSend(CHANNEL.getTopic(), NODE_ID + ":" + REFRESH_ALL);
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict department cache : {}", e.getMessage());
+            }
+
+            return;
+        }
+
+        localCache.invalidate(deptNo);
+
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + deptNo, VERSION_KEY_PREFIX + deptNo),
+                    String.valueOf(VERSION_TIME_TO_LIVE.toMillis()));
+            redisTemplate.convertAndSend(CHANNEL.getTopic(), NODE_ID + ":" + deptNo);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict department cache : {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 전파된 캐시 제거 메시지를 처리하는 메소드
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String deptNo = remoteDeptNo(message);
+
+        if (deptNo == null) {
+            return;
+        }
+
+        if (REFRESH_ALL.equals(deptNo)) {
+            localCache.invalidateAll();
+
+            return;
+        }
+
+        localCache.invalidate(deptNo);
+    }
+
+    // 다른 노드가 발행한 메시지이면 학과 번호(또는 REFRESH_ALL)를, 이 노드가 발행한 메시지이면 null을 반환하는 메소드
+    static String remoteDeptNo(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+
+        if (separator < 0) {
+            return body;
+        }
+
+        return NODE_ID.equals(body.substring(0, separator)) ? null : body.substring(separator + 1);
+    }
+
+    // 학과와 버전을 MGET 한 번으로 조회하는 메소드
+    // (L2에 없는 학과는 조회한 버전을 versions에 담는다. 레디스 장애로 버전을 알 수 없으면 L2에 저장하지 않도록 담지 않는다.)
+    private Map<String, Department> getAllFromRedis(Set<? extends String> deptNos, Map<String, String> versions) {
+        Map<String, Department> found = new HashMap<>();
+        List<String> ordered = new ArrayList<>(deptNos);
+        List<String> keys = new ArrayList<>();
+
+        ordered.forEach(deptNo -> keys.add(KEY_PREFIX + deptNo));
+        ordered.forEach(deptNo -> keys.add(VERSION_KEY_PREFIX + deptNo));
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+            for (int i = 0; values != null && i < ordered.size(); i++) {
+                String deptNo = ordered.get(i);
+                String json = values.get(i);
+
+                if (json == null) {
+                    l2MissCounter.increment();
+                    versions.put(deptNo, Optional.ofNullable(values.get(ordered.size() + i)).orElse(INITIAL_VERSION));
+
+                    continue;
+                }
+
+                l2HitCounter.increment();
+                found.put(deptNo, objectMapper.readValue(json, Department.class));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read department cache : {}", e.getMessage());
+        }
+
+        return found;
+    }
+
+    // 조회하기 전에 읽은 버전이 그대로인 학과만 스크립트 한 번으로 L2에 저장하는 메소드
+    // (파이프라인 안에서는 EVALSHA가 실패(NOSCRIPT)해도 EVAL로 다시 실행되지 않기 때문에 파이프라인을 사용하지 않는다.)
+    private void putAllToRedis(Map<String, Department> departments, Map<String, String> versions) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        args.add(String.valueOf(L2_TIME_TO_LIVE.toMillis()));
+
+        try {
+            for (Map.Entry<String, Department> entry : departments.entrySet()) {
+                String deptNo = entry.getKey();
+
+                if (versions.containsKey(deptNo)) {
+                    keys.add(KEY_PREFIX + deptNo);
+                    keys.add(VERSION_KEY_PREFIX + deptNo);
+                    args.add(objectMapper.writeValueAsString(entry.getValue()));
+                    args.add(versions.get(deptNo));
+                }
+            }
+
+            if (!keys.isEmpty()) {
+                redisTemplate.execute(PUT_SCRIPT, keys, args.toArray());
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write department cache : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.mapper.DepartmentMapper;
+import com.beyond.university.department.model.vo.Department;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+    DepartmentCatalog
+      - 학과 테이블 전체를 정렬된 불변 스냅샷(Snapshot)으로 메모리에 보관한다. (department.catalog.enabled)
+      - 스냅샷은 학과 이름 순으로 정렬된 목록과 개설 여부(openYn), 계열(category)별 보조 인덱스로 구성된다.
+      - 학과가 변경되면 새 스냅샷을 만들어 원자적으로 교체한다. (Copy-On-Write)
+        다른 노드의 변경은 Redis Pub/Sub("department-cache" 채널)으로 전달받고, 이 노드가 발행한 메시지는 무시한다.
+      - 스냅샷을 만드는 작업은 하나씩 순서대로 실행한다. 먼저 조회한 오래된 스냅샷이 나중에 교체되지 않도록 하고,
+        요청이 몰리면 대기하는 동안 시작된 다른 작업의 결과를 그대로 사용한다. (세대 번호로 확인)
+      - 주기적으로 DB와 스냅샷을 비교해서 다르면 DB의 내용으로 교체한다.
+      - 스냅샷을 불러오지 못한 경우 DepartmentServiceImpl은 DB에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepartmentCatalog implements MessageListener {
+    private final DepartmentMapper departmentMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${department.catalog.enabled:false}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+    // 스냅샷을 다시 만들어야 하는 변경이 발생할 때마다 증가하는 세대 번호
+    private final AtomicLong requested = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 현재 스냅샷에 반영된 세대 번호 (lock으로 보호한다.)
+    private long loaded = 0L;
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, DepartmentCache.CHANNEL);
+        }
+    }
+
+    // 스냅샷으로 조회할 수 있는지 확인하는 메소드
+    public boolean isReady() {
+
+        return enabled && snapshot != null;
+    }
+
+    // 개설 여부(openYn)에 해당하는 학과 수를 반환하는 메소드 (openYn이 null이면 전체)
+    public int count(String openYn) {
+
+        return snapshot.filterByOpenYn(openYn).size();
+    }
+
+    // 개설 여부(openYn)에 해당하는 학과를 offset부터 limit 만큼 반환하는 메소드 (복사본 반환)
+    public List<Department> page(String openYn, int offset, int limit) {
+        List<Department> departments = snapshot.filterByOpenYn(openYn);
+
+        // 잘못된 범위(음수 offset, 0 이하의 limit)는 DB 조회와 같이 빈 목록으로 처리한다.
+        if (offset < 0 || limit <= 0 || offset >= departments.size()) {
+            return List.of();
+        }
+
+        return copyOf(departments.subList(offset, Math.min(offset + limit, departments.size())));
+    }
+
+    // 계열(category)에 해당하는 학과를 반환하는 메소드 (복사본 반환)
+    public List<Department> findByCategory(String category) {
+
+        return copyOf(snapshot.byCategory.getOrDefault(category, List.of()));
+    }
+
+    // 노드가 시작되면 학과 테이블 전체를 불러오는 메소드
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        long generation = requested.incrementAndGet();
+
+        lock.lock();
+
+        try {
+            // 기다리는 동안 이 요청 이후에 시작된 작업이 스냅샷을 만들었으면 다시 조회하지 않는다.
+            if (loaded >= generation) {
+                return;
+            }
+
+            long current = requested.get();
+
+            snapshot = new Snapshot(departmentMapper.selectAll(null, RowBounds.DEFAULT));
+            loaded = current;
+
+            log.info("Department catalog loaded. size={}", snapshot.all.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to load department catalog : {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 트랜잭션이 커밋된 후 스냅샷을 다시 만드는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+
+        load();
+    }
+
+    // 다른 노드에서 학과가 변경되었을 때 스냅샷을 다시 만드는 메소드 (이 노드의 변경은 onDepartmentChanged에서 처리한다.)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (DepartmentCache.remoteDeptNo(message) != null) {
+            load();
+        }
+    }
+
+    // DB와 스냅샷이 일치하는지 주기적으로 확인하는 메소드
+    @Scheduled(fixedDelayString = "${department.catalog.verify-interval:300000}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            long current = requested.get();
+            List<Department> departments = departmentMapper.selectAll(null, RowBounds.DEFAULT);
+
+            if (snapshot == null || !snapshot.all.equals(departments)) {
+                log.warn("Department catalog is out of sync with the database, reloading.");
+
+                snapshot = new Snapshot(departments);
+            }
+
+            loaded = current;
+        } catch (RuntimeException e) {
+            log.warn("Failed to verify department catalog : {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<Department> copyOf(List<Department> departments) {
+
+        return departments.stream().map(department -> department.toBuilder().build()).toList();
+    }
+
+    private static final class Snapshot {
+        private final List<Department> all;
+
+        private final Map<String, List<Department>> byOpenYn;
+
+        private final Map<String, List<Department>> byCategory;
+
+        private Snapshot(List<Department> departments) {
+            this.all = List.copyOf(departments);
+            this.byOpenYn = index(all, Department::getOpenYn);
+            this.byCategory = index(all, Department::getCategory);
+        }
+
+        private List<Department> filterByOpenYn(String openYn) {
+
+            return openYn == null ? all : byOpenYn.getOrDefault(openYn, List.of());
+        }
+
+        // 정렬 순서를 유지한 채로 키별 목록을 만드는 메소드
+        private static Map<String, List<Department>> index(List<Department> departments,
+                                                           Function<Department, String> keyExtractor) {
+
+            return departments.stream()
+                    .filter(department -> keyExtractor.apply(department) != null)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.groupingBy(keyExtractor, Collectors.toUnmodifiableList()),
+                            Map::copyOf
+                    ));
+        }
+    }
+}
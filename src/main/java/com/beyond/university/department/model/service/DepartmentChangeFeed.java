@@ -0,0 +1,359 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.config.DepartmentFeedProperties;
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.dto.DepartmentChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    DepartmentChangeFeed
+      - 학과 변경(등록, 수정, 삭제, 대량 등록) 이벤트를 SSE(Server-Sent Events)로 전달한다.
+      - 트랜잭션이 커밋된 후 Lua 스크립트(scripts/publish-department-change.lua)로 한 번의 왕복에서
+        1. 시퀀스 번호를 발급하고 (INCR)
+        2. 최근 이벤트 목록에 보관하고 (RPUSH, LTRIM - department.feed.replay-size 개)
+        3. Redis Pub/Sub("department-feed" 채널)으로 모든 노드에 발행한다.
+      - 각 노드는 전달받은 이벤트를 로컬 버퍼(replay-size 개)에 보관하고 연결된 클라이언트에게 보낸다.
+      - 클라이언트가 Last-Event-ID(또는 since)로 마지막으로 받은 시퀀스 번호를 전달하면 그 다음 이벤트부터 보낸다.
+        로컬 버퍼 -> Redis 목록 순서로 찾고, 이미 버려진 이벤트가 필요하면 reset 이벤트를 보낸다. (목록을 다시 조회해야 한다.)
+      - Redis의 시퀀스 번호가 초기화되어 클라이언트가 받은 번호보다 작아진 경우에도 reset 이벤트를 보내고 새 번호부터 보낸다.
+      - 발행 순서를 지키기 위해 전용 리스너 컨테이너는 구독 스레드에서 바로 메시지를 처리한다.
+      - 클라이언트마다 크기가 제한된 큐(subscriber-queue-size)와 전송용 가상 스레드를 두고, 구독 스레드는 큐에 넣기만 한다.
+        큐가 가득 찬(이벤트를 받지 못하는) 클라이언트는 연결을 종료하고, 다시 연결하면 Last-Event-ID로 이어서 받는다.
+        (느린 클라이언트 하나가 다른 클라이언트의 전송을 막지 않는다.)
+ */
+@Slf4j
+@Component
+public class DepartmentChangeFeed implements MessageListener {
+    public static final ChannelTopic CHANNEL = new ChannelTopic("department-feed");
+    private static final String SEQUENCE_KEY = "department-feed:sequence";
+    private static final String EVENTS_KEY = "department-feed:events";
+    private static final RedisScript<Long> PUBLISH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/publish-department-change.lua"), Long.class);
+    // 클라이언트의 큐에 넣는 이벤트 이외의 신호 (참조로 비교한다.)
+    private static final DepartmentChange HEARTBEAT = new DepartmentChange();
+    private static final DepartmentChange RESET = new DepartmentChange();
+    private static final DepartmentChange CLOSE = new DepartmentChange();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DepartmentFeedProperties departmentFeedProperties;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ThreadFactory senderFactory = Thread.ofVirtual().name("department-feed-", 0).factory();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<DepartmentChange> buffer = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 이 노드가 마지막으로 전달받은 이벤트의 시퀀스 번호 (lock으로 보호한다.)
+    private long latestSequence = 0L;
+
+    public DepartmentChangeFeed(RedisConnectionFactory redisConnectionFactory,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                DepartmentFeedProperties departmentFeedProperties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.departmentFeedProperties = departmentFeedProperties;
+
+        // 빈으로 등록하면 공유 리스너 컨테이너와 타입이 겹치기 때문에 이 클래스에서만 사용한다.
+        // 기본 실행기는 메시지마다 스레드를 만들어서 순서가 바뀔 수 있기 때문에 구독 스레드에서 바로 처리한다.
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(redisConnectionFactory);
+        this.listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        this.listenerContainer.addMessageListener(this, CHANNEL);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        } catch (RuntimeException e) {
+            log.warn("Failed to subscribe department feed : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    // 변경 피드를 구독하는 메소드 (lastSequence가 null이면 지금부터 발생하는 이벤트만 보낸다.)
+    public SseEmitter subscribe(Long lastSequence) {
+        SseEmitter emitter = new SseEmitter(departmentFeedProperties.getTimeout());
+        Subscriber subscriber = new Subscriber(emitter, lastSequence == null ? 0L : lastSequence);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.close());
+
+        // 다시 보내는 동안 발행된 이벤트를 놓치지 않도록 먼저 등록하고, 그 동안의 이벤트는 큐에 보관한다.
+        subscribers.add(subscriber);
+
+        List<DepartmentChange> missed = lastSequence == null ? List.of() : changesAfter(lastSequence);
+
+        senderFactory.newThread(() -> subscriber.run(missed)).start();
+
+        return emitter;
+    }
+
+    // 트랜잭션이 커밋된 후 변경 이벤트를 모든 노드에 발행하는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(DepartmentChangedEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(new DepartmentChange(
+                    null, event.getType(), event.getDeptNo(), event.getDepartment(), System.currentTimeMillis()));
+
+            redisTemplate.execute(
+                    PUBLISH_SCRIPT,
+                    List.of(SEQUENCE_KEY, EVENTS_KEY),
+                    json,
+                    String.valueOf(departmentFeedProperties.getReplaySize()),
+                    CHANNEL.getTopic()
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to publish department change : {}", e.getMessage());
+        }
+    }
+
+    // 발행된 이벤트를 로컬 버퍼에 보관하고 연결된 클라이언트의 큐에 넣는 메소드
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        DepartmentChange change;
+        boolean regressed;
+
+        try {
+            change = objectMapper.readValue(message.getBody(), DepartmentChange.class);
+        } catch (IOException e) {
+            log.warn("Failed to read department change : {}", e.getMessage());
+
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            // 이벤트는 발행 순서대로 전달되기 때문에 시퀀스 번호가 작아졌다면 Redis의 카운터가 초기화된 것이다.
+            // 보관한 이벤트는 새 번호와 섞이지 않도록 버린다.
+            regressed = change.getSequence() <= latestSequence;
+
+            if (regressed) {
+                log.warn("Department feed sequence reset. latest={}, received={}", latestSequence, change.getSequence());
+
+                buffer.clear();
+            }
+
+            latestSequence = change.getSequence();
+            buffer.addLast(change);
+
+            while (buffer.size() > departmentFeedProperties.getReplaySize()) {
+                buffer.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (regressed) {
+                subscriber.offer(RESET);
+            }
+
+            subscriber.offer(change);
+        }
+    }
+
+    // 프록시 등에서 유휴 연결이 끊기지 않도록 주기적으로 주석을 보내는 메소드 (끊어진 연결도 정리된다.)
+    @Scheduled(fixedDelayString = "${department.feed.heartbeat-interval:15000}")
+    public void heartbeat() {
+
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    // lastSequence 다음 이벤트를 로컬 버퍼 -> Redis 목록 순서로 찾는 메소드 (이어서 보낼 수 없으면 null)
+    private List<DepartmentChange> changesAfter(long lastSequence) {
+        List<DepartmentChange> local;
+
+        try {
+            // 클라이언트가 받은 번호가 현재 번호보다 크면 시퀀스가 초기화된 것이기 때문에 이어서 보낼 수 없다.
+            String current = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+
+            if (lastSequence > (current == null ? 0L : Long.parseLong(current))) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to read department feed sequence : {}", e.getMessage());
+
+            return null;
+        }
+
+        lock.lock();
+
+        try {
+            local = new ArrayList<>(buffer);
+        } finally {
+            lock.unlock();
+        }
+
+        List<DepartmentChange> missed = after(local, lastSequence);
+
+        if (missed != null) {
+            return missed;
+        }
+
+        try {
+            List<String> events = redisTemplate.opsForList().range(EVENTS_KEY, 0, -1);
+            List<DepartmentChange> stored = new ArrayList<>();
+
+            for (String event : events == null ? List.<String>of() : events) {
+                stored.add(objectMapper.readValue(event, DepartmentChange.class));
+            }
+
+            if (stored.isEmpty()) {
+                // 보관된 이벤트가 없으면 마지막 시퀀스 번호가 같을 때만 놓친 이벤트가 없는 것이다.
+                String current = redisTemplate.opsForValue().get(SEQUENCE_KEY);
+
+                return String.valueOf(lastSequence).equals(current == null ? "0" : current) ? List.of() : null;
+            }
+
+            return after(stored, lastSequence);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read department feed history : {}", e.getMessage());
+
+            return null;
+        }
+    }
+
+    private static List<DepartmentChange> after(List<DepartmentChange> changes, long lastSequence) {
+        if (changes.isEmpty() || changes.get(0).getSequence() > lastSequence + 1) {
+            return null;
+        }
+
+        return changes.stream().filter(change -> change.getSequence() > lastSequence).toList();
+    }
+
+    // 클라이언트 하나의 큐와 전송 스레드
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<DepartmentChange> queue =
+                new ArrayBlockingQueue<>(departmentFeedProperties.getSubscriberQueueSize());
+        private volatile boolean closed = false;
+        // 전송 스레드에서만 사용한다.
+        private long lastSequence;
+
+        private Subscriber(SseEmitter emitter, long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+
+        // 큐에 넣는 메소드 (기다리지 않는다. 큐가 가득 차면 느린 클라이언트로 보고 연결을 종료한다.)
+        private void offer(DepartmentChange change) {
+            if (closed) {
+                return;
+            }
+
+            if (!queue.offer(change)) {
+                log.info("Closing slow department feed subscriber. queued={}", queue.size());
+
+                close();
+            }
+        }
+
+        // 등록을 해제하고 전송 스레드를 깨워서 연결을 종료하도록 하는 메소드
+        private void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            subscribers.remove(this);
+
+            queue.clear();
+            queue.offer(CLOSE);
+        }
+
+        // 놓친 이벤트(missed, null이면 reset)를 보낸 후 큐의 이벤트를 순서대로 보내는 메소드 (전송 스레드)
+        private void run(List<DepartmentChange> missed) {
+            try {
+                if (missed == null) {
+                    reset();
+                } else {
+                    for (DepartmentChange change : missed) {
+                        send(change);
+                    }
+                }
+
+                while (!closed) {
+                    DepartmentChange change = queue.take();
+
+                    if (change == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (change == RESET) {
+                        reset();
+                    } else if (change != CLOSE) {
+                        send(change);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+
+            // 느린 클라이언트에 쓰는 동안 다른 스레드가 기다리지 않도록 연결 종료도 전송 스레드에서 처리한다.
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 종료된 연결
+            }
+        }
+
+        // 클라이언트가 목록을 다시 조회하도록 알리고, 이후 이벤트는 번호와 관계없이 보낸다.
+        private void reset() throws IOException {
+            emitter.send(SseEmitter.event().name("reset").data("replay-unavailable"));
+
+            lastSequence = 0L;
+        }
+
+        // 이미 보낸 이벤트는 다시 보내지 않는다. (다시 보내기와 실시간 전송이 겹치는 경우)
+        private void send(DepartmentChange change) throws IOException {
+            if (change.getSequence() <= lastSequence) {
+                return;
+            }
+
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(change.getSequence()))
+                    .data(change, MediaType.APPLICATION_JSON));
+
+            lastSequence = change.getSequence();
+        }
+    }
+}
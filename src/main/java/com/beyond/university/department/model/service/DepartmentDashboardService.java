@@ -0,0 +1,8 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.department.model.dto.DepartmentDashboard;
+
+public interface DepartmentDashboardService {
+
+    DepartmentDashboard getDashboard(String deptNo, int numOfSubjects);
+}
@@ -0,0 +1,281 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.common.datasource.ReadYourWrites;
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.config.DepartmentDashboardProperties;
+import com.beyond.university.department.model.dto.DepartmentDashboard;
+import com.beyond.university.department.model.vo.Department;
+import com.beyond.university.subject.model.service.SubjectService;
+import com.beyond.university.subject.model.vo.Subject;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+    DepartmentDashboardServiceImpl
+      - 학과 정보, 과목 수, 과목 목록은 서로 독립적인 조회이기 때문에 섹션마다 가상 스레드에서 동시에 조회한다.
+        (응답 시간이 세 조회의 합이 아니라 가장 오래 걸린 조회의 시간이 된다.)
+      - 모든 섹션은 하나의 마감 시간(department.dashboard.timeout)을 공유하고,
+        마감 시간이 지나면 끝나지 않은 섹션을 취소(TIMEOUT)한다.
+      - 한 섹션이 실패(FAILED)하면 나머지 섹션을 바로 취소(CANCELLED)하고 그때까지 조회한 결과만 응답한다.
+      - 섹션은 남은 마감 시간을 시간 제한으로 지정한 읽기 전용 트랜잭션에서 실행한다.
+        MyBatis가 트랜잭션의 시간 제한을 쿼리의 시간 제한(Statement.setQueryTimeout)으로 적용하기 때문에
+        버려진 쿼리가 DB에서 계속 실행되면서 연결을 붙잡고 있지 않는다. (시간 제한은 초 단위이기 때문에 올림한다.)
+      - 취소할 때는 실행 중인 스레드를 인터럽트해서 쿼리 결과를 기다리지 않고 연결을 바로 반납한다.
+        (JDBC 드라이버가 소켓을 닫기 때문에 커넥션 풀은 그 연결을 버리고 새 연결을 만든다.)
+      - 실패한 섹션의 오류는 SQL이나 드라이버의 메시지가 노출되지 않도록 고정된 오류 코드로 응답하고, 상세 내용은 로그로 남긴다.
+      - 학과가 존재하지 않으면 나머지 섹션을 취소하고 404(Not Found)로 응답한다.
+      - 섹션은 각자의 스레드와 트랜잭션에서 실행되기 때문에 요청 스레드의 ReadYourWrites 상태를 전달한다.
+ */
+@Slf4j
+@Service
+public class DepartmentDashboardServiceImpl implements DepartmentDashboardService {
+    private static final String DEPARTMENT = "department";
+    private static final String SUBJECT_COUNT = "subjectCount";
+    private static final String SUBJECTS = "subjects";
+    // 예상하지 못한 예외로 실패한 섹션의 오류 코드
+    private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+
+    private final DepartmentService departmentService;
+    private final SubjectService subjectService;
+    private final DepartmentDashboardProperties departmentDashboardProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService executor;
+
+    public DepartmentDashboardServiceImpl(DepartmentService departmentService,
+                                          SubjectService subjectService,
+                                          DepartmentDashboardProperties departmentDashboardProperties,
+                                          PlatformTransactionManager transactionManager) {
+        this.departmentService = departmentService;
+        this.subjectService = subjectService;
+        this.departmentDashboardProperties = departmentDashboardProperties;
+        this.transactionManager = transactionManager;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        executor.shutdownNow();
+    }
+
+    @Override
+    public DepartmentDashboard getDashboard(String deptNo, int numOfSubjects) {
+        int limit = Math.clamp(numOfSubjects, 1, departmentDashboardProperties.getMaxSubjects());
+        boolean sticky = ReadYourWrites.isSticky();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(departmentDashboardProperties.getTimeout());
+        BlockingQueue<Task<?>> completed = new LinkedBlockingQueue<>();
+        Task<Optional<Department>> department =
+                new Task<>(section(() -> departmentService.getDepartmentByNo(deptNo), deadline), sticky, completed);
+        Task<Integer> subjectCount =
+                new Task<>(section(() -> subjectService.getCountByDeptNo(deptNo), deadline), sticky, completed);
+        Task<List<Subject>> subjects =
+                new Task<>(section(() -> subjectService.getSubjectsByDeptNo(deptNo, 1, limit), deadline), sticky, completed);
+        Map<String, Task<?>> tasks = new LinkedHashMap<>();
+
+        tasks.put(DEPARTMENT, department);
+        tasks.put(SUBJECT_COUNT, subjectCount);
+        tasks.put(SUBJECTS, subjects);
+
+        tasks.values().forEach(executor::execute);
+
+        try {
+            await(tasks, department, completed, deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(tasks, DepartmentDashboard.Status.CANCELLED);
+        }
+
+        if (isNotFound(department)) {
+            throw new UniversityException(ExceptionMessage.DEPARTMENT_NOT_FOUND);
+        }
+
+        Map<String, DepartmentDashboard.Section> sections = new LinkedHashMap<>();
+
+        tasks.forEach((name, task) -> sections.put(name, task.toSection(name)));
+
+        Optional<Department> found = department.resultOrNull();
+
+        return new DepartmentDashboard(
+                found == null ? null : found.orElse(null),
+                subjectCount.resultOrNull(),
+                subjects.resultOrNull(),
+                sections
+        );
+    }
+
+    // 남은 마감 시간을 시간 제한으로 지정한 읽기 전용 트랜잭션에서 섹션을 조회하는 작업을 만드는 메소드
+    // (섹션 안의 @Transactional(readOnly = true) 메소드는 이 트랜잭션에 참여하기 때문에 시간 제한이 모든 쿼리에 적용된다.)
+    private <T> Callable<T> section(Supplier<T> query, long deadline) {
+
+        return () -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+
+            return transactionTemplate.execute(status -> {
+                try {
+                    return query.get();
+                } catch (RuntimeException e) {
+                    // 취소(인터럽트)되어 연결이 닫힌 경우에는 결과가 버려지기 때문에 예외를 던지지 않고 롤백만 표시한다.
+                    // (예외를 던지면 닫힌 연결의 롤백 실패가 오류 로그로 남는다.)
+                    if (Thread.currentThread().isInterrupted()) {
+                        status.setRollbackOnly();
+
+                        return null;
+                    }
+
+                    throw e;
+                }
+            });
+        };
+    }
+
+    // 모든 섹션이 끝나거나, 한 섹션이 실패하거나(또는 학과가 없거나), 마감 시간이 지날 때까지 기다리는 메소드
+    private static void await(Map<String, Task<?>> tasks, Task<Optional<Department>> department,
+                              BlockingQueue<Task<?>> completed, long deadline) throws InterruptedException {
+        for (int remaining = tasks.size(); remaining > 0; remaining--) {
+            Task<?> task = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+            if (task == null) {
+                cancel(tasks, DepartmentDashboard.Status.TIMEOUT);
+
+                return;
+            }
+
+            if (task.state() == Future.State.FAILED) {
+                cancel(tasks, DepartmentDashboard.Status.CANCELLED);
+
+                return;
+            }
+
+            if (task == department && isNotFound(department)) {
+                cancel(tasks, DepartmentDashboard.Status.CANCELLED);
+
+                return;
+            }
+        }
+    }
+
+    private static boolean isNotFound(Task<Optional<Department>> department) {
+
+        return department.state() == Future.State.SUCCESS && department.resultNow().isEmpty();
+    }
+
+    private static void cancel(Map<String, Task<?>> tasks, DepartmentDashboard.Status status) {
+
+        tasks.values().forEach(task -> task.cancel(status));
+    }
+
+    // 섹션 하나의 조회 작업 (끝나거나 취소되면 completed 큐에 자신을 넣는다.)
+    private static final class Task<T> extends FutureTask<T> {
+        private final boolean sticky;
+        private final BlockingQueue<Task<?>> completed;
+        private final long start = System.nanoTime();
+        private volatile long elapsedNanos;
+        private volatile DepartmentDashboard.Status cancelledStatus = DepartmentDashboard.Status.CANCELLED;
+
+        private Task(Callable<T> callable, boolean sticky, BlockingQueue<Task<?>> completed) {
+            super(callable);
+
+            this.sticky = sticky;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            if (sticky) {
+                ReadYourWrites.stick();
+            }
+
+            try {
+                super.run();
+            } finally {
+                ReadYourWrites.clear();
+            }
+        }
+
+        // 끝나지 않은 작업을 취소하는 메소드 (이미 끝난 작업은 그대로 둔다.)
+        // 실행 중인 스레드를 인터럽트해서 쿼리를 기다리던 연결을 반납하게 한다.
+        private void cancel(DepartmentDashboard.Status status) {
+            cancelledStatus = status;
+
+            if (cancel(true)) {
+                elapsedNanos = System.nanoTime() - start;
+            }
+        }
+
+        // 결과가 공개되기 전에 조회 시간을 기록한다. (취소된 작업은 취소한 시간을 그대로 둔다.)
+        @Override
+        protected void set(T value) {
+            if (!isDone()) {
+                elapsedNanos = System.nanoTime() - start;
+            }
+
+            super.set(value);
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            if (!isDone()) {
+                elapsedNanos = System.nanoTime() - start;
+            }
+
+            super.setException(t);
+        }
+
+        @Override
+        protected void done() {
+
+            completed.add(this);
+        }
+
+        private T resultOrNull() {
+
+            return state() == State.SUCCESS ? resultNow() : null;
+        }
+
+        private DepartmentDashboard.Section toSection(String name) {
+            DepartmentDashboard.Status status = switch (state()) {
+                case SUCCESS -> DepartmentDashboard.Status.OK;
+                case FAILED -> DepartmentDashboard.Status.FAILED;
+                default -> cancelledStatus;
+            };
+
+            return new DepartmentDashboard.Section(status, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    status == DepartmentDashboard.Status.FAILED ? errorCode(name) : null);
+        }
+
+        // 실패 원인은 로그로 남기고, 응답에는 UniversityException의 타입 또는 고정된 오류 코드만 포함한다.
+        private String errorCode(String name) {
+            Throwable exception = exceptionNow();
+
+            if (exception instanceof UniversityException universityException) {
+                return universityException.getType();
+            }
+
+            log.warn("Dashboard section failed. section={}", name, exception);
+
+            return INTERNAL_ERROR;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.department.model.dto.DepartmentImportResult;
+
+import java.io.BufferedReader;
+
+public interface DepartmentImportService {
+
+    DepartmentImportResult importDepartments(BufferedReader reader, RecordFormat format);
+}
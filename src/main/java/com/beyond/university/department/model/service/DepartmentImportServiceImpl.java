@@ -0,0 +1,279 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.common.id.IdAllocator;
+import com.beyond.university.common.util.CsvRecords;
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.config.DepartmentImportProperties;
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.dto.DepartmentImportResult;
+import com.beyond.university.department.model.dto.DepartmentRequestDto;
+import com.beyond.university.department.model.mapper.DepartmentMapper;
+import com.beyond.university.department.model.vo.Department;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+    DepartmentImportServiceImpl
+      - NDJSON(한 줄에 하나의 JSON 객체) 또는 CSV(name,category,openYn,capacity) 형식의 학과 목록을 한 줄씩 읽어서 등록한다.
+      - 요청 본문 전체를 메모리에 올리지 않고 batch-size 만큼만 보관하기 때문에 파일 크기와 관계없이 메모리 사용량이 일정하다.
+      - 각 행은 DepartmentRequestDto의 제약 조건으로 검증하고, 실패한 행은 행 번호와 함께 결과에 포함한다.
+      - 검증을 통과한 행은 MyBatis의 BATCH 실행기로 batch-size 만큼 하나의 트랜잭션에서 등록한다.
+      - 배치가 실패하면 해당 배치만 롤백하고 한 행씩 다시 등록해서 실패한 행을 찾는다.
+      - CSV는 한 줄이 하나의 행이다. (따옴표 안의 줄바꿈은 지원하지 않는다.)
+      - CSV의 첫 번째 줄은 헤더(name,category,openYn,capacity, 대소문자 무시)와 정확히 같을 때만 건너뛰고,
+        다르면 데이터 행으로 처리한다. (이름이 "name"으로 시작하는 학과도 등록되고, 잘못된 헤더는 실패한 행으로 기록된다.)
+ */
+@Slf4j
+@Service
+public class DepartmentImportServiceImpl implements DepartmentImportService {
+    private static final int CSV_COLUMNS = 4;
+    private static final String CSV_HEADER = "name,category,openYn,capacity";
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final DepartmentMapper departmentMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final IdAllocator idAllocator;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final DepartmentImportProperties departmentImportProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DepartmentImportServiceImpl(SqlSessionFactory sqlSessionFactory,
+                                       DepartmentMapper departmentMapper,
+                                       TransactionTemplate transactionTemplate,
+                                       IdAllocator idAllocator,
+                                       Validator validator,
+                                       ObjectMapper objectMapper,
+                                       DepartmentImportProperties departmentImportProperties,
+                                       ApplicationEventPublisher eventPublisher) {
+        // 빈으로 등록하면 자동 구성된 SqlSessionTemplate(SIMPLE)을 대체하기 때문에 이 클래스에서만 사용한다.
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.departmentMapper = departmentMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.idAllocator = idAllocator;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.departmentImportProperties = departmentImportProperties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public DepartmentImportResult importDepartments(BufferedReader reader, RecordFormat format) {
+        int batchSize = departmentImportProperties.getBatchSize();
+        Progress progress = new Progress(departmentImportProperties.getMaxErrors());
+        List<Row> batch = new ArrayList<>(batchSize);
+        long lineNo = 0;
+        boolean first = true;
+        String line;
+
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                // CSV의 첫 번째 줄이 헤더이면 건너뛴다.
+                if (first && format == RecordFormat.CSV && line.trim().equalsIgnoreCase(CSV_HEADER)) {
+                    first = false;
+
+                    continue;
+                }
+
+                first = false;
+                progress.total++;
+
+                Department department = toDepartment(lineNo, line, format, progress);
+
+                if (department != null) {
+                    batch.add(new Row(lineNo, department));
+                }
+
+                if (batch.size() >= batchSize) {
+                    write(batch, progress);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 학과가 한 건이라도 등록되었으면 캐시와 스냅샷을 갱신하도록 이벤트를 한 번만 발행한다.
+            if (progress.imported > 0) {
+                eventPublisher.publishEvent(new DepartmentChangedEvent(DepartmentChangedEvent.Type.IMPORTED, null, null));
+            }
+
+            log.info("Department import finished. total={}, imported={}, failed={}",
+                    progress.total, progress.imported, progress.failed);
+        }
+
+        return progress.toResult();
+    }
+
+    // 한 줄을 파싱하고 검증하는 메소드 (실패하면 오류를 기록하고 null을 반환한다.)
+    private Department toDepartment(long lineNo, String line, RecordFormat format, Progress progress) {
+        DepartmentRequestDto requestDto;
+
+        try {
+            requestDto = format == RecordFormat.CSV ? parseCsv(line) : objectMapper.readValue(line, DepartmentRequestDto.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNo, "JSON 형식이 올바르지 않습니다.");
+
+            return null;
+        } catch (IllegalArgumentException e) {
+            progress.fail(lineNo, e.getMessage());
+
+            return null;
+        }
+
+        if (requestDto == null) {
+            progress.fail(lineNo, "JSON 형식이 올바르지 않습니다.");
+
+            return null;
+        }
+
+        String violations = validator.validate(requestDto).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(this::toMessage)
+                .collect(Collectors.joining(", "));
+
+        if (!violations.isEmpty()) {
+            progress.fail(lineNo, violations);
+
+            return null;
+        }
+
+        return requestDto.toDepartment();
+    }
+
+    // 배치 단위로 학과 번호를 발급받고 하나의 트랜잭션에서 등록하는 메소드
+    private void write(List<Row> batch, Progress progress) {
+        long[] deptNos = idAllocator.next("department", batch.size(), departmentMapper::selectMaxDepartmentNo);
+        List<Row> numbered = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            // 학과 번호 컬럼에 저장할 수 없는 번호를 발급받은 행은 등록하지 않고 실패로 기록한다.
+            if (deptNos[i] > Department.MAX_NO) {
+                progress.fail(batch.get(i).line(), ExceptionMessage.DEPARTMENT_NO_EXHAUSTED.getMessage());
+
+                continue;
+            }
+
+            batch.get(i).department().setNo(Department.formatNo(deptNos[i]));
+            numbered.add(batch.get(i));
+        }
+
+        if (numbered.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                DepartmentMapper batchMapper = batchSqlSessionTemplate.getMapper(DepartmentMapper.class);
+
+                numbered.forEach(row -> batchMapper.insertDepartment(row.department()));
+
+                batchSqlSessionTemplate.flushStatements();
+            });
+
+            progress.imported += numbered.size();
+        } catch (DataAccessException e) {
+            log.warn("Department import batch failed, retrying row by row : {}", e.getMessage());
+
+            for (Row row : numbered) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> departmentMapper.insertDepartment(row.department()));
+
+                    progress.imported++;
+                } catch (DataAccessException rowException) {
+                    progress.fail(row.line(), NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        }
+    }
+
+    private DepartmentRequestDto parseCsv(String line) {
+        List<String> columns = CsvRecords.split(line);
+
+        if (columns.size() != CSV_COLUMNS) {
+            throw new IllegalArgumentException("컬럼은 name,category,openYn,capacity 4개여야 합니다.");
+        }
+
+        int capacity;
+
+        try {
+            capacity = columns.get(3).isEmpty() ? 0 : Integer.parseInt(columns.get(3));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("capacity(숫자여야 합니다)");
+        }
+
+        return new DepartmentRequestDto(
+                emptyToNull(columns.get(0)),
+                emptyToNull(columns.get(1)),
+                emptyToNull(columns.get(2)),
+                capacity
+        );
+    }
+
+    private static String emptyToNull(String value) {
+
+        return value.isEmpty() ? null : value;
+    }
+
+    private String toMessage(ConstraintViolation<DepartmentRequestDto> violation) {
+
+        return violation.getPropertyPath() + "(" + violation.getMessage() + ")";
+    }
+
+    private record Row(long line, Department department) {
+    }
+
+    private static final class Progress {
+        private final int maxErrors;
+        private final List<DepartmentImportResult.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+
+            if (errors.size() < maxErrors) {
+                errors.add(new DepartmentImportResult.RowError(line, message));
+            }
+        }
+
+        private DepartmentImportResult toResult() {
+
+            return new DepartmentImportResult(total, imported, failed, errors);
+        }
+    }
+}
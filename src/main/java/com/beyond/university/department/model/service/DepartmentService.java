@@ -1,9 +1,16 @@
 package com.beyond.university.department.model.service;
 
+import com.beyond.university.common.model.dto.CursorPage;
+import com.beyond.university.common.model.dto.PageResult;
+import com.beyond.university.common.util.RecordFormat;
 import com.beyond.university.department.model.vo.Department;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface DepartmentService {
 
@@ -11,9 +18,25 @@ public interface DepartmentService {
 
     List<Department> getDepartments(int page, int numOfRows, String openYn);
 
+    CursorPage<Department> getDepartments(String cursor, int numOfRows, String openYn, Set<String> fields);
+
+    PageResult<Department> getDepartmentPage(int page, int numOfRows, String openYn, boolean withTotal, Set<String> fields);
+
     Optional<Department> getDepartmentByNo(String deptNo);
 
+    Optional<Department> getCurrentDepartmentByNo(String deptNo);
+
+    Map<String, Department> getDepartmentsByNos(Set<String> deptNos);
+
+    void exportDepartments(OutputStream out, RecordFormat format) throws IOException;
+
     void save(Department department);
 
-    void delete(String deptNo);
+    boolean update(Department department);
+
+    boolean updateIfUnchanged(Department department, Department expected);
+
+    Optional<Department> delete(String deptNo);
+
+    boolean deleteIfUnchanged(Department expected);
 }
\ No newline at end of file
@@ -1,27 +1,67 @@
 package com.beyond.university.department.model.service;
 
+import com.beyond.university.common.id.IdAllocator;
+import com.beyond.university.common.model.dto.CursorPage;
+import com.beyond.university.common.model.dto.KeysetCursor;
+import com.beyond.university.common.model.dto.PageResult;
+import com.beyond.university.common.model.vo.PagedRow;
+import com.beyond.university.common.projection.FieldProjection;
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.common.util.RecordWriter;
+import com.beyond.university.department.event.DepartmentChangedEvent;
 import com.beyond.university.department.model.mapper.DepartmentMapper;
 import com.beyond.university.department.model.vo.Department;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
+    private static final List<String> CSV_HEADER = List.of("no", "name", "category", "openYn", "capacity");
+
     private final DepartmentMapper departmentMapper;
+    private final IdAllocator idAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DepartmentCache departmentCache;
+    private final DepartmentCatalog departmentCatalog;
+    private final ObjectMapper objectMapper;
+
+    // 개설 여부(openYn) -> 전체 학과 수 (학과가 변경되면 제거된다.)
+    private final Cache<String, Integer> totalCountCache = Caffeine.newBuilder()
+            .maximumSize(16)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
 
     @Override
+    @Transactional(readOnly = true)
     public int getTotalCount(String openYn) {
+        if (departmentCatalog.isReady()) {
+            return departmentCatalog.count(openYn);
+        }
 
         return departmentMapper.selectDepartmentsCount(openYn);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getDepartments(int page, int numOfRows, String openYn) {
         /*
         Mybatis에서 페이징 처리
@@ -41,6 +81,10 @@ public class DepartmentServiceImpl implements DepartmentService {
         */
         int offset = (page - 1) * numOfRows;
 
+        if (departmentCatalog.isReady()) {
+            return departmentCatalog.page(openYn, offset, numOfRows);
+        }
+
         RowBounds rowBounds = new RowBounds(offset, numOfRows);
 
 //        if (true) {
@@ -50,29 +94,165 @@ public class DepartmentServiceImpl implements DepartmentService {
         return departmentMapper.selectAll(openYn, rowBounds);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Department> getDepartments(String cursor, int numOfRows, String openYn, Set<String> fields) {
+        // 다음 페이지가 있는지 확인하기 위해 한 행을 더 조회한다. (다음 커서를 만들기 위해 학과 이름은 항상 조회한다.)
+        List<Department> rows = departmentMapper.selectAllAfter(
+                openYn, KeysetCursor.decode(cursor), numOfRows + 1, FieldProjection.with(fields, "name"));
+
+        return CursorPage.of(rows, numOfRows, department -> new KeysetCursor(department.getName(), department.getNo()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<Department> getDepartmentPage(int page, int numOfRows, String openYn, boolean withTotal, Set<String> fields) {
+        if (departmentCatalog.isReady()) {
+            // 메모리의 스냅샷에서 조회한다. (DB 왕복 없음, 필드 선택은 JSON 직렬화에서만 적용된다.)
+            return new PageResult<>(
+                    departmentCatalog.page(openYn, (page - 1) * numOfRows, numOfRows),
+                    withTotal ? departmentCatalog.count(openYn) : null
+            );
+        }
+
+        String countKey = openYn == null ? "" : openYn;
+        Integer totalCount = withTotal ? totalCountCache.getIfPresent(countKey) : null;
+        // 전체 학과 수가 필요하고 캐시에 없는 경우에만 같은 쿼리에서 윈도우 함수로 함께 조회한다.
+        boolean withCount = withTotal && totalCount == null;
+        int offset = (page - 1) * numOfRows;
+
+        List<PagedRow<Department>> rows = departmentMapper.selectPage(openYn, withCount, offset, numOfRows, fields);
+
+        if (withCount) {
+            if (!rows.isEmpty()) {
+                totalCount = rows.get(0).getTotalCount();
+                totalCountCache.put(countKey, totalCount);
+            } else if (offset == 0) {
+                totalCount = 0;
+            }
+        }
+
+        return new PageResult<>(rows.stream().map(PagedRow::getItem).toList(), totalCount);
+    }
+
     @Override
     public Optional<Department> getDepartmentByNo(String deptNo) {
 
+        // L1(로컬) -> L2(Redis) -> DB 순서로 조회한다.
+        // 복제 지연으로 변경 전의 학과가 캐싱되지 않도록 캐시에 없는 학과는 기본 데이터 소스에서 조회한다. (읽기 전용 트랜잭션 아님)
+        return departmentCache.get(deptNo, departmentMapper::selectDepartmentByNo);
+    }
+
+    @Override
+    public Optional<Department> getCurrentDepartmentByNo(String deptNo) {
+
+        // 조건부 수정/삭제(If-Match)는 캐시나 복제 DB가 아닌 기본 데이터 소스의 현재 학과와 비교해야 한다.
         return departmentMapper.selectDepartmentByNo(deptNo);
     }
 
+    @Override
+    public Map<String, Department> getDepartmentsByNos(Set<String> deptNos) {
+
+        // 캐시에 없는 학과만 하나의 IN (...) 쿼리로 조회한다.
+        return departmentCache.getAll(deptNos, missing -> departmentMapper.selectDepartmentsByNos(missing).stream()
+                .collect(Collectors.toMap(Department::getNo, Function.identity())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportDepartments(OutputStream out, RecordFormat format) throws IOException {
+        // Cursor는 트랜잭션이 끝나면 닫히기 때문에 트랜잭션 안에서 모든 행을 응답으로 쓴다.
+        try (Cursor<Department> cursor = departmentMapper.selectAllCursor();
+             RecordWriter<Department> writer = RecordWriter.open(out, format, objectMapper, CSV_HEADER,
+                     department -> new Object[]{
+                             department.getNo(),
+                             department.getName(),
+                             department.getCategory(),
+                             department.getOpenYn(),
+                             department.getCapacity()
+                     })) {
+            for (Department department : cursor) {
+                writer.write(department);
+            }
+        }
+    }
+
     @Override
     @Transactional
     public void save(Department department) {
         if (department.getNo() != null) {
             // update
-            departmentMapper.updateDepartment(department);
+            update(department);
         } else {
             // insert
+            // 학과 번호는 IdAllocator에서 발급받아 기존 형식(0으로 채운 최소 3자리)으로 변환한다.
+            long deptNo = idAllocator.next("department", departmentMapper::selectMaxDepartmentNo);
+
+            department.setNo(Department.formatNo(deptNo));
             departmentMapper.insertDepartment(department);
+
+            eventPublisher.publishEvent(
+                    new DepartmentChangedEvent(DepartmentChangedEvent.Type.CREATED, department.getNo(), department));
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean update(Department department) {
+        // 영향받은 행 수가 0이면 학과가 없는 것이다. (조회 없이 하나의 UPDATE 문장으로 확인)
+        if (departmentMapper.updateDepartment(department) == 0) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(
+                new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, department.getNo(), department));
+
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateIfUnchanged(Department department, Department expected) {
+        // 조회한 내용(expected)과 현재 행이 같을 때만 수정한다. (하나의 UPDATE 문장에서 확인)
+        if (departmentMapper.updateDepartmentIfUnchanged(department, expected) == 0) {
+            return false;
         }
+
+        eventPublisher.publishEvent(
+                new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, department.getNo(), department));
+
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Department> delete(String deptNo) {
+        // 삭제된 행을 같은 문장에서 반환받는다. (DELETE ... RETURNING)
+        Optional<Department> deleted = departmentMapper.deleteDepartment(deptNo);
+
+        deleted.ifPresent(department -> eventPublisher.publishEvent(
+                new DepartmentChangedEvent(DepartmentChangedEvent.Type.DELETED, deptNo, null)));
+
+        return deleted;
     }
 
     @Override
     @Transactional
-    public void delete(String deptNo) {
+    public boolean deleteIfUnchanged(Department expected) {
+        // 조회한 내용(expected)과 현재 행이 같을 때만 삭제한다. (하나의 DELETE 문장에서 확인)
+        if (departmentMapper.deleteDepartmentIfUnchanged(expected) == 0) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(new DepartmentChangedEvent(DepartmentChangedEvent.Type.DELETED, expected.getNo(), null));
+
+        return true;
+    }
 
-        departmentMapper.deleteDepartment(deptNo);
+    // 트랜잭션이 커밋된 후 캐시된 전체 학과 수를 제거하는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictTotalCount(DepartmentChangedEvent event) {
 
+        totalCountCache.invalidateAll();
     }
 }
\ No newline at end of file
@@ -1,6 +1,13 @@
 package com.beyond.university.department.model.vo;
 
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.common.projection.FieldProjection;
+import com.beyond.university.common.util.EntityTags;
 import com.beyond.university.department.model.dto.DepartmentRequestDto;
+import com.beyond.university.subject.model.vo.Subject;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,10 +17,14 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldProjection.DEPARTMENT_FILTER_ID)
 public class Department {
+    // 학과 번호 컬럼(department_no VARCHAR(10))에 저장할 수 있는 가장 큰 번호
+    public static final long MAX_NO = 9_999_999_999L;
+
     private String no;
 
     private String name;
@@ -24,10 +35,37 @@ public class Department {
 
     private int capacity;
 
+    // expand=subjects로 조회한 경우에만 포함된다. (최대 50개, subjectCount는 전체 과목 수)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Subject> subjects;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer subjectCount;
+
+    // 발급받은 번호를 학과 번호 형식으로 변환하는 메소드
+    // 기존 번호와 같도록 최소 3자리로 0을 채우고, 999를 넘는 번호는 자릿수를 늘린다. (1000 -> "1000")
+    // 번호를 비교하는 쿼리(selectMaxDepartmentNo)는 숫자로 변환해서 비교하기 때문에 자릿수가 달라도 순서가 유지된다.
+    public static String formatNo(long no) {
+        if (no < 1 || no > MAX_NO) {
+            throw new UniversityException(ExceptionMessage.DEPARTMENT_NO_EXHAUSTED);
+        }
+
+        return String.format("%03d", no);
+    }
+
     public void setDepartment(DepartmentRequestDto requestDto) {
         this.name = requestDto.getName();
         this.category = requestDto.getCategory();
         this.openYn = requestDto.getOpenYn();
         this.capacity = requestDto.getCapacity();
     }
+
+    // 학과 정보의 내용으로 만든 ETag를 반환하는 메소드 (JSON 속성에 포함되지 않도록 getter로 만들지 않는다.)
+    public String etag() {
+        if (subjects != null) {
+            return EntityTags.of(no, name, category, openYn, capacity, subjectCount, subjects);
+        }
+
+        return EntityTags.of(no, name, category, openYn, capacity);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package com.beyond.university.subject.model.mapper;
 
+import com.beyond.university.common.model.dto.KeysetCursor;
+import com.beyond.university.common.model.vo.PagedRow;
+import com.beyond.university.subject.model.vo.DepartmentSubjects;
 import com.beyond.university.subject.model.vo.Subject;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Mapper
 public interface SubjectMapper {
@@ -13,4 +19,22 @@ public interface SubjectMapper {
     int selectCountByDeptNo(@Param("deptNo") String deptNo);
 
     List<Subject> selectAllByDeptNo(@Param("deptNo") String deptNo, RowBounds rowBounds);
+
+    List<PagedRow<Subject>> selectPageByDeptNo(@Param("deptNo") String deptNo,
+                                               @Param("withCount") boolean withCount,
+                                               @Param("offset") int offset,
+                                               @Param("limit") int limit,
+                                               @Param("fields") Set<String> fields);
+
+    List<Subject> selectAllByDeptNoAfter(@Param("deptNo") String deptNo,
+                                         @Param("cursor") KeysetCursor cursor,
+                                         @Param("limit") int limit,
+                                         @Param("fields") Set<String> fields);
+
+    List<DepartmentSubjects> selectAllByDeptNos(@Param("deptNos") Collection<String> deptNos,
+                                                @Param("limit") int limit);
+
+    List<Subject> selectAll();
+
+    Cursor<Subject> selectAllCursor();
 }
\ No newline at end of file
@@ -0,0 +1,357 @@
+package com.beyond.university.subject.model.service;
+
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.common.exception.message.ExceptionMessage;
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.subject.model.mapper.SubjectMapper;
+import com.beyond.university.subject.model.vo.Subject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    PrerequisiteGraph
+      - 과목 테이블 전체의 선수 과목(preattending_subject_no) 관계를 메모리에 불변 스냅샷(Snapshot)으로 보관한다.
+      - 과목은 0부터 시작하는 정수 인덱스로 바꾸고, 관계는 배열로 저장한다.
+        1. prerequisite[i] : i번 과목의 선수 과목 인덱스 (없으면 -1)
+        2. dependentStart, dependents : i번 과목을 선수 과목으로 하는 과목들 (CSR 형식의 인접 배열)
+      - 조회는 배열만 사용하기 때문에 SQL 왕복 없이 처리된다.
+      - 선수 과목 관계에 순환이 있으면 409(Conflict)로 응답한다.
+      - subject.graph.enabled가 false이면 스냅샷을 보관하지 않고 조회할 때마다 만든다.
+      - 학과가 삭제되면 해당 학과의 과목만 다시 조회해서 스냅샷을 만들고,
+        주기적으로 DB와 비교해서 다르면 DB의 내용으로 교체한다. (subject.graph.verify-interval)
+      - 스냅샷을 만드는 작업(DB 조회 포함)은 하나씩 순서대로 실행한다. 먼저 조회한 오래된 내용이 나중에 만든 스냅샷을
+        덮어쓰지 않도록 하고, 요청이 몰리면 대기하는 동안 시작된 다른 작업의 결과를 그대로 사용한다. (세대 번호로 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrerequisiteGraph {
+    private final SubjectMapper subjectMapper;
+
+    @Value("${subject.graph.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+    // 전체 스냅샷을 다시 만들어야 할 때마다 증가하는 세대 번호
+    private final AtomicLong requested = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 현재 스냅샷에 반영된 세대 번호 (lock으로 보호한다.)
+    private long loaded = 0L;
+
+    // 노드가 시작되면 과목 테이블 전체를 불러오는 메소드
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to load prerequisite graph : {}", e.getMessage());
+        }
+    }
+
+    // 과목의 선수 과목을 가까운 순서로 반환하는 메소드 (직접 선수 과목 -> 선수 과목의 선수 과목 -> ...)
+    public List<Subject> prerequisites(String subjectNo) {
+        Snapshot current = current();
+        int index = current.indexOf(subjectNo);
+        List<Subject> prerequisites = new ArrayList<>();
+        BitSet visited = new BitSet(current.subjects.length);
+
+        visited.set(index);
+
+        for (int i = current.prerequisite[index]; i >= 0; i = current.prerequisite[i]) {
+            if (visited.get(i)) {
+                throw new UniversityException(ExceptionMessage.PREREQUISITE_CYCLE);
+            }
+
+            visited.set(i);
+            prerequisites.add(current.subjects[i]);
+        }
+
+        return prerequisites;
+    }
+
+    // 과목을 선수 과목으로 하는 과목을 반환하는 메소드 (transitive가 true이면 간접적으로 의존하는 과목까지, 가까운 순서)
+    public List<Subject> dependents(String subjectNo, boolean transitive) {
+        Snapshot current = current();
+        int index = current.indexOf(subjectNo);
+        List<Subject> dependents = new ArrayList<>();
+        BitSet visited = new BitSet(current.subjects.length);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        visited.set(index);
+        queue.add(index);
+
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+
+            for (int k = current.dependentStart[i]; k < current.dependentStart[i + 1]; k++) {
+                int dependent = current.dependents[k];
+
+                if (visited.get(dependent)) {
+                    continue;
+                }
+
+                visited.set(dependent);
+                dependents.add(current.subjects[dependent]);
+
+                if (transitive) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        return dependents;
+    }
+
+    // 학과의 과목과 그 선수 과목(다른 학과 과목 포함)을 선수 과목이 먼저 오도록 정렬해서 반환하는 메소드 (위상 정렬)
+    public List<Subject> studyPath(String deptNo) {
+        Snapshot current = current();
+        int[] departmentSubjects = current.byDepartment.get(deptNo);
+
+        if (departmentSubjects == null) {
+            return List.of();
+        }
+
+        // 1. 학과의 과목과 선수 과목을 모두 포함하는 부분 그래프
+        BitSet included = new BitSet(current.subjects.length);
+
+        for (int index : departmentSubjects) {
+            for (int i = index; i >= 0 && !included.get(i); i = current.prerequisite[i]) {
+                included.set(i);
+            }
+        }
+
+        // 2. 선수 과목이 없는(또는 부분 그래프 밖에 있는) 과목부터 시작하는 Kahn 알고리즘
+        //    과목마다 선수 과목은 최대 하나이기 때문에 진입 차수는 0 또는 1이다.
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int i = included.nextSetBit(0); i >= 0; i = included.nextSetBit(i + 1)) {
+            int prerequisite = current.prerequisite[i];
+
+            if (prerequisite < 0 || !included.get(prerequisite)) {
+                queue.add(i);
+            }
+        }
+
+        List<Subject> path = new ArrayList<>(included.cardinality());
+
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+
+            path.add(current.subjects[i]);
+
+            for (int k = current.dependentStart[i]; k < current.dependentStart[i + 1]; k++) {
+                if (included.get(current.dependents[k])) {
+                    queue.add(current.dependents[k]);
+                }
+            }
+        }
+
+        // 정렬되지 않은 과목이 남아 있으면 순환이 있는 것이다.
+        if (path.size() < included.cardinality()) {
+            throw new UniversityException(ExceptionMessage.PREREQUISITE_CYCLE);
+        }
+
+        return path;
+    }
+
+    // 트랜잭션이 커밋된 후 삭제된 학과의 과목만 다시 조회해서 스냅샷을 만드는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.getType() != DepartmentChangedEvent.Type.DELETED || snapshot == null) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            // 다른 작업이 스냅샷을 교체하지 않도록 학과의 과목을 조회하는 동안에도 lock을 유지한다.
+            List<Subject> reloaded = subjectMapper.selectAllByDeptNo(event.getDeptNo(), RowBounds.DEFAULT);
+            List<Subject> subjects = new ArrayList<>(snapshot.subjects.length);
+
+            for (Subject subject : snapshot.subjects) {
+                if (!Objects.equals(subject.getDeptNo(), event.getDeptNo())) {
+                    subjects.add(subject);
+                }
+            }
+
+            subjects.addAll(reloaded);
+            snapshot = new Snapshot(subjects);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh prerequisite graph : {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // DB와 스냅샷이 일치하는지 주기적으로 확인하는 메소드
+    @Scheduled(fixedDelayString = "${subject.graph.verify-interval:300000}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            long current = requested.get();
+            List<Subject> subjects = subjectMapper.selectAll();
+
+            // 아직 불러오지 못한 경우에는 불일치로 보지 않고 새로 만든다.
+            if (snapshot == null) {
+                snapshot = new Snapshot(subjects);
+            } else if (!Arrays.asList(snapshot.subjects).equals(sorted(subjects))) {
+                log.warn("Prerequisite graph is out of sync with the database, rebuilding.");
+
+                snapshot = new Snapshot(subjects);
+            }
+
+            loaded = current;
+        } catch (RuntimeException e) {
+            log.warn("Failed to verify prerequisite graph : {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        if (!enabled) {
+            // 스냅샷을 보관하지 않는 경우 조회할 때마다 DB의 내용으로 만든다.
+            return new Snapshot(subjectMapper.selectAll());
+        }
+
+        Snapshot current = snapshot;
+
+        if (current == null) {
+            // 시작할 때 불러오지 못한 경우 처음 조회할 때 불러온다. (실패하면 예외가 그대로 전달된다.)
+            reload();
+            current = snapshot;
+        }
+
+        return current;
+    }
+
+    // 과목 테이블 전체로 스냅샷을 다시 만드는 메소드
+    private void reload() {
+        long generation = requested.incrementAndGet();
+
+        lock.lock();
+
+        try {
+            // 기다리는 동안 이 요청 이후에 시작된 작업이 스냅샷을 만들었으면 다시 조회하지 않는다.
+            if (loaded >= generation) {
+                return;
+            }
+
+            long current = requested.get();
+
+            snapshot = new Snapshot(subjectMapper.selectAll());
+            loaded = current;
+
+            log.info("Prerequisite graph loaded. size={}", snapshot.subjects.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<Subject> sorted(List<Subject> subjects) {
+
+        return subjects.stream().sorted(Comparator.comparing(Subject::getNo)).toList();
+    }
+
+    private static final class Snapshot {
+        private final Subject[] subjects;
+
+        private final Map<String, Integer> index;
+
+        private final int[] prerequisite;
+
+        private final int[] dependentStart;
+
+        private final int[] dependents;
+
+        private final Map<String, int[]> byDepartment;
+
+        private Snapshot(List<Subject> subjects) {
+            int size = subjects.size();
+
+            this.subjects = sorted(subjects).toArray(Subject[]::new);
+            this.index = new HashMap<>(size * 2);
+            this.prerequisite = new int[size];
+            this.dependentStart = new int[size + 1];
+            this.dependents = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                index.put(this.subjects[i].getNo(), i);
+            }
+
+            // 선수 과목 인덱스와 과목별 의존 과목 수
+            for (int i = 0; i < size; i++) {
+                Integer prerequisiteIndex = this.subjects[i].getPreattendingNo() == null
+                        ? null : index.get(this.subjects[i].getPreattendingNo());
+
+                prerequisite[i] = prerequisiteIndex == null ? -1 : prerequisiteIndex;
+
+                if (prerequisite[i] >= 0) {
+                    dependentStart[prerequisite[i] + 1]++;
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                dependentStart[i + 1] += dependentStart[i];
+            }
+
+            int[] next = Arrays.copyOf(dependentStart, size);
+
+            for (int i = 0; i < size; i++) {
+                if (prerequisite[i] >= 0) {
+                    dependents[next[prerequisite[i]]++] = i;
+                }
+            }
+
+            // 학과 번호 -> 과목 인덱스 목록
+            Map<String, List<Integer>> departments = new HashMap<>();
+
+            for (int i = 0; i < size; i++) {
+                departments.computeIfAbsent(this.subjects[i].getDeptNo(), key -> new ArrayList<>()).add(i);
+            }
+
+            this.byDepartment = new HashMap<>(departments.size() * 2);
+
+            departments.forEach((deptNo, indexes) ->
+                    byDepartment.put(deptNo, indexes.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        private int indexOf(String subjectNo) {
+            Integer i = index.get(subjectNo);
+
+            if (i == null) {
+                throw new UniversityException(ExceptionMessage.SUBJECT_NOT_FOUND);
+            }
+
+            return i;
+        }
+    }
+}
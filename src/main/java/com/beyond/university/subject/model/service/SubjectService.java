@@ -1,11 +1,34 @@
 package com.beyond.university.subject.model.service;
 
+import com.beyond.university.common.model.dto.CursorPage;
+import com.beyond.university.common.model.dto.PageResult;
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.subject.model.vo.DepartmentSubjects;
 import com.beyond.university.subject.model.vo.Subject;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface SubjectService {
     int getCountByDeptNo(String deptNo);
 
     List<Subject> getSubjectsByDeptNo(String deptNo, int page, int numOfRows);
+
+    CursorPage<Subject> getSubjectsByDeptNo(String deptNo, String cursor, int numOfRows, Set<String> fields);
+
+    PageResult<Subject> getSubjectPage(String deptNo, int page, int numOfRows, boolean withTotal, Set<String> fields);
+
+    Map<String, DepartmentSubjects> getSubjectsByDeptNos(Collection<String> deptNos);
+
+    List<Subject> getPrerequisites(String subjectNo);
+
+    List<Subject> getDependents(String subjectNo, boolean transitive);
+
+    List<Subject> getStudyPath(String deptNo);
+
+    void exportSubjects(OutputStream out, RecordFormat format) throws IOException;
 }
\ No newline at end of file
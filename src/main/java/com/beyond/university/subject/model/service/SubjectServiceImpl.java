@@ -1,29 +1,156 @@
 package com.beyond.university.subject.model.service;
 
+import com.beyond.university.common.model.dto.CursorPage;
+import com.beyond.university.common.model.dto.KeysetCursor;
+import com.beyond.university.common.model.dto.PageResult;
+import com.beyond.university.common.model.vo.PagedRow;
+import com.beyond.university.common.projection.FieldProjection;
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.common.util.RecordWriter;
+import com.beyond.university.department.event.DepartmentChangedEvent;
 import com.beyond.university.subject.model.mapper.SubjectMapper;
+import com.beyond.university.subject.model.vo.DepartmentSubjects;
 import com.beyond.university.subject.model.vo.Subject;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SubjectServiceImpl implements SubjectService {
+    // 학과 하나에 포함하는 과목 수의 상한 (학과 조회에 과목을 포함할 때 응답 크기를 제한한다.)
+    private static final int MAX_SUBJECTS_PER_DEPARTMENT = 50;
+    private static final List<String> CSV_HEADER = List.of("no", "deptNo", "preattendingNo", "name", "type");
+
     private final SubjectMapper subjectMapper;
+    private final ObjectMapper objectMapper;
+    private final PrerequisiteGraph prerequisiteGraph;
+
+    // 학과 번호(deptNo) -> 학과별 전체 과목 수 (학과가 삭제되면 제거된다.)
+    private final Cache<String, Integer> countCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
 
     @Override
+    @Transactional(readOnly = true)
     public int getCountByDeptNo(String deptNo) {
 
         return subjectMapper.selectCountByDeptNo(deptNo);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Subject> getSubjectsByDeptNo(String deptNo, int page, int numOfRows) {
         int offset = (page - 1) * numOfRows;
         RowBounds rowBounds = new RowBounds(offset, numOfRows);
 
         return subjectMapper.selectAllByDeptNo(deptNo, rowBounds);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Subject> getSubjectsByDeptNo(String deptNo, String cursor, int numOfRows, Set<String> fields) {
+        // 다음 페이지가 있는지 확인하기 위해 한 행을 더 조회한다. (다음 커서를 만들기 위해 과목 이름은 항상 조회한다.)
+        List<Subject> rows = subjectMapper.selectAllByDeptNoAfter(
+                deptNo, KeysetCursor.decode(cursor), numOfRows + 1, FieldProjection.with(fields, "name"));
+
+        return CursorPage.of(rows, numOfRows, subject -> new KeysetCursor(subject.getName(), subject.getNo()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<Subject> getSubjectPage(String deptNo, int page, int numOfRows, boolean withTotal, Set<String> fields) {
+        Integer totalCount = withTotal ? countCache.getIfPresent(deptNo) : null;
+        // 전체 과목 수가 필요하고 캐시에 없는 경우에만 같은 쿼리에서 윈도우 함수로 함께 조회한다.
+        boolean withCount = withTotal && totalCount == null;
+        int offset = (page - 1) * numOfRows;
+
+        List<PagedRow<Subject>> rows = subjectMapper.selectPageByDeptNo(deptNo, withCount, offset, numOfRows, fields);
+
+        if (withCount) {
+            if (!rows.isEmpty()) {
+                totalCount = rows.get(0).getTotalCount();
+                countCache.put(deptNo, totalCount);
+            } else if (offset == 0) {
+                totalCount = 0;
+            }
+        }
+
+        return new PageResult<>(rows.stream().map(PagedRow::getItem).toList(), totalCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, DepartmentSubjects> getSubjectsByDeptNos(Collection<String> deptNos) {
+        if (deptNos.isEmpty()) {
+            return Map.of();
+        }
+
+        return subjectMapper.selectAllByDeptNos(deptNos, MAX_SUBJECTS_PER_DEPARTMENT).stream()
+                .collect(Collectors.toMap(DepartmentSubjects::getDeptNo, Function.identity()));
+    }
+
+    @Override
+    public List<Subject> getPrerequisites(String subjectNo) {
+
+        return prerequisiteGraph.prerequisites(subjectNo);
+    }
+
+    @Override
+    public List<Subject> getDependents(String subjectNo, boolean transitive) {
+
+        return prerequisiteGraph.dependents(subjectNo, transitive);
+    }
+
+    @Override
+    public List<Subject> getStudyPath(String deptNo) {
+
+        return prerequisiteGraph.studyPath(deptNo);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSubjects(OutputStream out, RecordFormat format) throws IOException {
+        // Cursor는 트랜잭션이 끝나면 닫히기 때문에 트랜잭션 안에서 모든 행을 응답으로 쓴다.
+        try (Cursor<Subject> cursor = subjectMapper.selectAllCursor();
+             RecordWriter<Subject> writer = RecordWriter.open(out, format, objectMapper, CSV_HEADER,
+                     subject -> new Object[]{
+                             subject.getNo(),
+                             subject.getDeptNo(),
+                             subject.getPreattendingNo(),
+                             subject.getName(),
+                             subject.getType()
+                     })) {
+            for (Subject subject : cursor) {
+                writer.write(subject);
+            }
+        }
+    }
+
+    // 트랜잭션이 커밋된 후 변경된 학과의 과목 수를 캐시에서 제거하는 메소드
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictCount(DepartmentChangedEvent event) {
+        if (event.getDeptNo() == null) {
+            return;
+        }
+
+        countCache.invalidate(event.getDeptNo());
+    }
+}
@@ -0,0 +1,22 @@
+package com.beyond.university.subject.model.vo;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    DepartmentSubjects
+      - 학과별로 묶은 과목 목록이다. (subject-mapper.xml의 departmentSubjectsResultMap)
+      - subjects는 상한(limit)까지만 포함하고, totalCount는 학과의 전체 과목 수이다.
+ */
+@Data
+@NoArgsConstructor
+public class DepartmentSubjects {
+    private String deptNo;
+
+    private int totalCount;
+
+    private List<Subject> subjects = new ArrayList<>();
+}
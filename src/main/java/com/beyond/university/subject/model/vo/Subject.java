@@ -1,5 +1,7 @@
 package com.beyond.university.subject.model.vo;
 
+import com.beyond.university.common.projection.FieldProjection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldProjection.SUBJECT_FILTER_ID)
 public class Subject {
     private String no;
 
@@ -0,0 +1,9 @@
+-- 학과 캐시(L2) 제거 스크립트
+--   KEYS[1] : department:{학과 번호}
+--   KEYS[2] : department-version:{학과 번호}
+--   ARGV[1] : 버전 키의 만료 시간(ms)
+-- 버전을 올린 후 캐시를 삭제해서, 변경 전에 DB에서 조회한 내용이 캐시에 다시 저장되지 않도록 한다.
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+
+return redis.call('DEL', KEYS[1])
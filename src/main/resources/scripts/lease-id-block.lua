@@ -0,0 +1,14 @@
+-- 번호 블록 임대 스크립트
+--   KEYS[1] : sequence:{이름}
+--   ARGV[1] : 임대할 번호의 개수
+--   ARGV[2] : 카운터가 없을 때 초기화할 값 (생략하면 카운터가 없을 때 임대하지 않는다.)
+-- 반환 값 : 임대한 블록의 마지막 번호, -1(카운터가 없고 초기화 값이 전달되지 않음)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    if not ARGV[2] then
+        return -1
+    end
+
+    redis.call('SET', KEYS[1], ARGV[2])
+end
+
+return redis.call('INCRBY', KEYS[1], ARGV[1])
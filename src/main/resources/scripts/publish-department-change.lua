@@ -0,0 +1,16 @@
+-- 학과 변경 이벤트 발행 스크립트
+--   KEYS[1] : department-feed:sequence (시퀀스 번호 카운터)
+--   KEYS[2] : department-feed:events (다시 보내기용 최근 이벤트 목록)
+--   ARGV[1] : 시퀀스 번호를 제외한 이벤트 JSON 객체
+--   ARGV[2] : 보관하는 최근 이벤트의 최대 개수
+--   ARGV[3] : 이벤트를 발행할 Pub/Sub 채널
+-- 반환 값 : 발급한 시퀀스 번호
+-- 번호 발급, 보관, 발행을 원자적으로 처리하기 때문에 모든 노드가 같은 순서로 이벤트를 받는다.
+local sequence = redis.call('INCR', KEYS[1])
+local event = '{"sequence":' .. sequence .. ',' .. string.sub(ARGV[1], 2)
+
+redis.call('RPUSH', KEYS[2], event)
+redis.call('LTRIM', KEYS[2], -tonumber(ARGV[2]), -1)
+redis.call('PUBLISH', ARGV[3], event)
+
+return sequence
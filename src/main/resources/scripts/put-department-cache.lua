@@ -0,0 +1,20 @@
+-- 학과 캐시(L2) 저장 스크립트 (여러 학과를 한 번에 저장한다.)
+--   KEYS[2i - 1] : department:{학과 번호}
+--   KEYS[2i]     : department-version:{학과 번호}
+--   ARGV[1]      : 만료 시간(ms)
+--   ARGV[2i]     : 학과 정보 JSON
+--   ARGV[2i + 1] : DB에서 조회하기 전에 읽은 버전 (버전 키가 없으면 '0')
+-- 반환 값 : 저장한 학과 수
+-- DB에서 조회하는 동안 학과가 변경(버전 증가)되었으면 이전 내용으로 캐시를 채우지 않는다.
+local stored = 0
+
+for i = 1, #KEYS / 2 do
+    local version = redis.call('GET', KEYS[2 * i]) or '0'
+
+    if version == ARGV[2 * i + 1] then
+        redis.call('SET', KEYS[2 * i - 1], ARGV[2 * i], 'PX', ARGV[1])
+        stored = stored + 1
+    end
+end
+
+return stored
@@ -0,0 +1,25 @@
+-- 리프레시 토큰(Refresh Token) 교체 스크립트
+--   KEYS[1] : refresh:{username}
+--   ARGV[1] : 전달받은 토큰 ({family}:{jti})
+--   ARGV[2] : 새로 발급한 토큰 ({family}:{jti})
+--   ARGV[3] : 새 토큰의 만료 시간(ms)
+--   ARGV[4] : 전달받은 토큰의 family
+-- 반환 값 : 1(교체 성공), 2(재사용 감지 - family 폐기), 0(유효하지 않은 토큰)
+local current = redis.call('GET', KEYS[1])
+
+if not current then
+    return 0
+end
+
+if current == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+
+-- 같은 family의 이전 토큰이 다시 사용되면 토큰이 탈취된 것으로 보고 family 전체를 폐기한다.
+if string.sub(current, 1, string.len(ARGV[4]) + 1) == ARGV[4] .. ':' then
+    redis.call('DEL', KEYS[1])
+    return 2
+end
+
+return 0
@@ -0,0 +1,141 @@
+package com.beyond.university;
+
+import com.beyond.university.auth.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    요청 동시 처리 벤치마크 (동시 클라이언트 5,000개, -Dbenchmark.clients로 변경)
+      - 로컬 MariaDB와 Redis가 필요하기 때문에 명시적으로 실행할 때만 수행된다.
+      - 플랫폼 스레드 모드와 가상 스레드 모드를 각각 실행해서 결과를 비교한다.
+        ./mvnw test -Dtest=RequestConcurrencyBenchmarkTests -Dbenchmark=true -Dspring.threads.virtual.enabled=false
+        ./mvnw test -Dtest=RequestConcurrencyBenchmarkTests -Dbenchmark=true -Dspring.threads.virtual.enabled=true
+      - 모든 요청은 JWT 인증(Redis 블랙리스트 확인)과 학과 목록 조회(MariaDB)를 거친다.
+      - 클라이언트는 가상 스레드이고 HttpClient 하나를 공유한다. (클라이언트마다 HttpClient를 만들면 선택자(selector) 스레드가
+        클라이언트 수만큼 생겨서 서버보다 클라이언트가 먼저 CPU를 모두 사용한다.)
+      - 동시에 요청하는 클라이언트 수만큼 연결이 열리기 때문에 열 수 있는 파일 수(ulimit -n)가 충분해야 한다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "jwt.stateless-authentication=true"
+)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestConcurrencyBenchmarkTests {
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 5_000);
+    private static final int REQUESTS_PER_CLIENT = 10;
+    // 측정하기 전에 JIT 컴파일과 커넥션 풀을 준비하는 요청 (클라이언트 20개 x REQUESTS_PER_CLIENT)
+    private static final int WARMUP_CLIENTS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void departmentsUnderConcurrentClients() throws Exception {
+        String accessToken = jwtTokenProvider.createAccessToken("benchmark", List.of("ROLE_USER"));
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/department-service/departments?page=1&numOfRows=10");
+        // 실패한 요청 수 (키 : 응답 상태 코드 또는 예외 클래스 이름)
+        Map<String, LongAdder> failed = new ConcurrentSkipListMap<>();
+        List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+        long start;
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build()) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < WARMUP_CLIENTS; i++) {
+                    executor.submit(() -> run(client, uri, accessToken, new ConcurrentSkipListMap<>()));
+                }
+            }
+
+            start = System.nanoTime();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CLIENTS; i++) {
+                    clients.add(executor.submit(() -> run(client, uri, accessToken, failed)));
+                }
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long[] latencies = clients.stream()
+                .flatMapToLong(client -> Arrays.stream(client.resultNow()))
+                .filter(latency -> latency >= 0)
+                .sorted()
+                .toArray();
+
+        System.out.printf("[%s] clients=%d, requests=%d, failed=%s, elapsed=%dms, req/s=%d, p50=%dms, p99=%dms, max=%dms%n",
+                virtualThreads ? "virtual" : "platform", CLIENTS, latencies.length, failed, elapsedMillis,
+                latencies.length * 1000L / Math.max(elapsedMillis, 1),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+
+        assertThat(latencies).isNotEmpty();
+    }
+
+    // 클라이언트마다 순서대로 요청하고 요청별 응답 시간(ms, 실패하면 -1)을 반환하는 메소드
+    private static long[] run(HttpClient client, URI uri, String accessToken, Map<String, LongAdder> failed) {
+        long[] latencies = new long[REQUESTS_PER_CLIENT];
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            long start = System.nanoTime();
+
+            String failure;
+
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                failure = response.statusCode() == 200 ? null : String.valueOf(response.statusCode());
+            } catch (Exception e) {
+                failure = e.getClass().getSimpleName();
+            }
+
+            latencies[i] = failure == null ? (System.nanoTime() - start) / 1_000_000 : -1;
+
+            if (failure != null) {
+                failed.computeIfAbsent(failure, key -> new LongAdder()).increment();
+            }
+        }
+
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+}
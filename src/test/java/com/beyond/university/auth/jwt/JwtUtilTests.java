@@ -0,0 +1,63 @@
+package com.beyond.university.auth.jwt;
+
+import com.beyond.university.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTests {
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+
+        jwtProperties.setIssuer("https://accounts.beyond.com");
+        jwtProperties.setSecret("h1o2n3g4g5i6l7d8o9n0g;h1o2n3g4g5i6l7d8o9n0g");
+
+        AtomicLong sequence = new AtomicLong();
+
+        jwtUtil = new JwtUtil(jwtProperties, new VerifiedTokenCache(), (name, seed) -> sequence.incrementAndGet());
+    }
+
+    @Test
+    void verifyReturnsClaimsOfAccessToken() {
+        String token = jwtUtil.createJwtToken(
+                Map.of("username", "admin", "roles", List.of("ROLE_ADMIN"), "token_type", "access"), 60_000L);
+
+        VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+        assertThat(verifiedToken.getUsername()).isEqualTo("admin");
+        assertThat(verifiedToken.getRoles()).containsExactly("ROLE_ADMIN");
+        assertThat(verifiedToken.isAccessToken()).isTrue();
+        assertThat(verifiedToken.isExpired()).isFalse();
+    }
+
+    @Test
+    void verifyReusesCachedToken() {
+        String token = jwtUtil.createJwtToken(Map.of("username", "admin", "token_type", "access"), 60_000L);
+
+        assertThat(jwtUtil.verify(token)).isSameAs(jwtUtil.verify(token));
+    }
+
+    @Test
+    void verifyKeepsClaimsOfExpiredToken() {
+        String token = jwtUtil.createJwtToken(Map.of("username", "admin", "token_type", "refresh"), -1_000L);
+
+        assertThat(jwtUtil.validateToken(token)).isFalse();
+        assertThat(jwtUtil.getUsername(token)).isEqualTo("admin");
+    }
+
+    @Test
+    void verifyRejectsTamperedToken() {
+        String token = jwtUtil.createJwtToken(Map.of("username", "admin", "token_type", "access"), 60_000L);
+
+        assertThatThrownBy(() -> jwtUtil.verify(token + "x")).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.beyond.university.auth.jwt;
+
+import com.beyond.university.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    JWT 검증 벤치마크
+      - 외부 환경(DB, Redis)이 필요 없지만 시간이 걸리기 때문에 명시적으로 실행할 때만 수행된다.
+        ./mvnw test -Dtest=JwtVerificationBenchmarkTests -Dbenchmark=true
+      - 요청 하나를 인증할 때 토큰을 처리하는 비용을 비교한다.
+        1. per-request parsing : 이전 방식 (요청마다 파서를 만들어 서명을 네 번 검증)
+        2. verify (miss) : 처음 보는 토큰 (서명을 한 번 검증하고 캐시에 저장)
+        3. verify (hit) : 이미 검증한 토큰 (캐시에서 조회)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtVerificationBenchmarkTests {
+    private static final String ISSUER = "https://accounts.beyond.com";
+    private static final String SECRET = "h1o2n3g4g5i6l7d8o9n0g;h1o2n3g4g5i6l7d8o9n0g";
+    private static final int TOKENS = 100_000;
+    private static final int HITS = 1_000_000;
+    // 이전 JwtAuthenticationFilter가 요청마다 토큰을 파싱한 횟수 (검증, 토큰 타입, 블랙리스트 jti, 인증 정보 생성)
+    private static final int PARSES_PER_REQUEST = 4;
+
+    @Test
+    void verification() {
+        JwtUtil issuer = newJwtUtil();
+        List<String> tokens = IntStream.range(0, TOKENS)
+                .mapToObj(i -> issuer.createJwtToken(
+                        Map.of("username", "user" + i, "roles", List.of("ROLE_USER"), "token_type", "access"), 3_600_000L))
+                .toList();
+        SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        // JIT 컴파일이 끝난 후에 측정하도록 먼저 한 번씩 실행한다.
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+
+            run("per-request parsing", tokens, token -> {
+                for (int i = 0; i < PARSES_PER_REQUEST; i++) {
+                    Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+                    assertThat(claims.getIssuer()).isEqualTo(ISSUER);
+                }
+            }, print);
+
+            JwtUtil jwtUtil = newJwtUtil();
+
+            run("verify (miss)", tokens, token -> jwtUtil.verify(token), print);
+
+            String token = tokens.get(0);
+            List<String> sameToken = IntStream.range(0, HITS).mapToObj(i -> token).toList();
+
+            run("verify (hit)", sameToken, cached -> jwtUtil.verify(cached), print);
+        }
+    }
+
+    private static void run(String name, List<String> tokens, Consumer<String> authenticate, boolean print) {
+        long start = System.nanoTime();
+
+        tokens.forEach(authenticate);
+
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (print) {
+            System.out.printf("[%s] requests=%d, elapsed=%dms, requests/s=%d, per request=%.2fus%n",
+                    name, tokens.size(), elapsedNanos / 1_000_000, tokens.size() * 1_000_000_000L / elapsedNanos,
+                    elapsedNanos / 1000.0 / tokens.size());
+        }
+    }
+
+    private static JwtUtil newJwtUtil() {
+        JwtProperties jwtProperties = new JwtProperties();
+        AtomicLong sequence = new AtomicLong();
+
+        jwtProperties.setIssuer(ISSUER);
+        jwtProperties.setSecret(SECRET);
+
+        return new JwtUtil(jwtProperties, new VerifiedTokenCache(), (name, seed) -> sequence.incrementAndGet());
+    }
+}
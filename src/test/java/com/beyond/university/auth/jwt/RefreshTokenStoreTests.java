@@ -0,0 +1,132 @@
+package com.beyond.university.auth.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+    로컬 Redis(application.yml의 접속 정보)가 실행 중일 때만 수행되는 테스트이다.
+ */
+class RefreshTokenStoreTests {
+    private static final String USERNAME = "refresh-token-store-test";
+    private static final long EXPIRATION = 60_000L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+
+        configuration.setPassword("beyond");
+
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        boolean available;
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            available = "PONG".equals(connection.ping());
+        } catch (RuntimeException e) {
+            available = false;
+        }
+
+        assumeTrue(available, "Redis is not available");
+
+        refreshTokenStore = new RefreshTokenStore(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (refreshTokenStore != null) {
+            refreshTokenStore.delete(USERNAME);
+        }
+
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rotateReplacesStoredToken() {
+        refreshTokenStore.save(USERNAME, "family", "jti-1", EXPIRATION);
+
+        assertThat(refreshTokenStore.rotate(USERNAME, "family", "jti-1", "jti-2", EXPIRATION))
+                .isEqualTo(RefreshTokenStore.Outcome.ROTATED);
+        assertThat(refreshTokenStore.rotate(USERNAME, "family", "jti-2", "jti-3", EXPIRATION))
+                .isEqualTo(RefreshTokenStore.Outcome.ROTATED);
+    }
+
+    @Test
+    void reuseRevokesTokenFamily() {
+        refreshTokenStore.save(USERNAME, "family", "jti-1", EXPIRATION);
+        refreshTokenStore.rotate(USERNAME, "family", "jti-1", "jti-2", EXPIRATION);
+
+        assertThat(refreshTokenStore.rotate(USERNAME, "family", "jti-1", "jti-3", EXPIRATION))
+                .isEqualTo(RefreshTokenStore.Outcome.REUSED);
+        assertThat(refreshTokenStore.rotate(USERNAME, "family", "jti-2", "jti-4", EXPIRATION))
+                .isEqualTo(RefreshTokenStore.Outcome.INVALID);
+    }
+
+    @Test
+    void concurrentRefreshHasExactlyOneWinner() throws Exception {
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RefreshTokenStore.Outcome>> futures = new ArrayList<>();
+
+        refreshTokenStore.save(USERNAME, "family", "jti-0", EXPIRATION);
+
+        for (int i = 0; i < threads; i++) {
+            String newJti = "jti-new-" + i;
+
+            futures.add(executor.submit(() -> {
+                start.await();
+
+                return refreshTokenStore.rotate(USERNAME, "family", "jti-0", newJti, EXPIRATION);
+            }));
+        }
+
+        start.countDown();
+
+        List<RefreshTokenStore.Outcome> outcomes = new ArrayList<>();
+
+        for (Future<RefreshTokenStore.Outcome> future : futures) {
+            outcomes.add(future.get());
+        }
+
+        executor.shutdown();
+
+        Map<RefreshTokenStore.Outcome, Long> counts = outcomes.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(counts.get(RefreshTokenStore.Outcome.ROTATED)).isEqualTo(1L);
+        // 교체된 뒤 처음 도착한 요청이 재사용으로 감지되어 family가 폐기되고, 나머지 요청은 실패한다.
+        assertThat(counts.get(RefreshTokenStore.Outcome.REUSED)).isEqualTo(1L);
+        assertThat(redisTemplate.hasKey("refresh:" + USERNAME)).isFalse();
+    }
+}
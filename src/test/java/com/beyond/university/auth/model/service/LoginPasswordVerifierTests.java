@@ -0,0 +1,141 @@
+package com.beyond.university.auth.model.service;
+
+import com.beyond.university.auth.model.mapper.AuthMapper;
+import com.beyond.university.auth.model.vo.User;
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.config.LoginProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/*
+    DB 없이 AuthMapper를 대신하는 목(mock) 객체와 스레드 하나, 대기 큐 하나인 스레드 풀로 패스워드 검증을 확인하는 테스트이다.
+ */
+class LoginPasswordVerifierTests {
+    private static final int STRENGTH = 4;
+    private static final String PASSWORD = "1234";
+
+    private final AuthMapper authMapper = mock(AuthMapper.class);
+    private final PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder(STRENGTH));
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor loginExecutor;
+    private LoginPasswordVerifier loginPasswordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        LoginProperties loginProperties = new LoginProperties();
+
+        loginProperties.setBcryptStrength(STRENGTH);
+        loginProperties.setVerifyTimeout(200);
+        loginExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        loginPasswordVerifier = new LoginPasswordVerifier(
+                authMapper, passwordEncoder, loginExecutor, loginProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        loginExecutor.shutdown();
+
+        assertThat(loginExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void matchingPassword() {
+        User user = user(new BCryptPasswordEncoder(STRENGTH).encode(PASSWORD));
+
+        assertThat(loginPasswordVerifier.matches(PASSWORD, user)).isTrue();
+        verify(authMapper, never()).updatePassword(anyString(), anyString());
+    }
+
+    @Test
+    void matchingPasswordWithOtherStrengthIsRehashed() {
+        User user = user(new BCryptPasswordEncoder(STRENGTH + 1).encode(PASSWORD));
+
+        assertThat(loginPasswordVerifier.matches(PASSWORD, user)).isTrue();
+        verify(authMapper).updatePassword(eq(user.getId()), anyString());
+    }
+
+    @Test
+    void mismatchingPassword() {
+        User user = user(new BCryptPasswordEncoder(STRENGTH).encode(PASSWORD));
+
+        assertThat(loginPasswordVerifier.matches("4321", user)).isFalse();
+        verify(authMapper, never()).updatePassword(anyString(), anyString());
+    }
+
+    // 스레드와 대기 큐가 모두 사용 중이면 기다리지 않고 바로 503으로 실패한다.
+    @Test
+    void saturatedExecutorIsRejected() {
+        loginExecutor.execute(this::block);
+        loginExecutor.execute(this::block);
+
+        assertUnavailable();
+    }
+
+    // 대기 큐에서 검증 시간(login.verify-timeout)이 지나면 503으로 실패하고, 검증 작업은 실행되지 않는다.
+    @Test
+    void queuedVerificationTimesOut() throws InterruptedException {
+        loginExecutor.execute(this::block);
+
+        long start = System.nanoTime();
+
+        assertUnavailable();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+
+        release.countDown();
+        loginExecutor.shutdown();
+
+        assertThat(loginExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    private void assertUnavailable() {
+        User user = user(new BCryptPasswordEncoder(STRENGTH).encode(PASSWORD));
+
+        assertThatThrownBy(() -> loginPasswordVerifier.matches(PASSWORD, user))
+                .isInstanceOf(UniversityException.class)
+                .satisfies(e -> {
+                    UniversityException exception = (UniversityException) e;
+
+                    assertThat(exception.getType()).isEqualTo("LOGIN_UNAVAILABLE");
+                    assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                });
+    }
+
+    private void block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static User user(String password) {
+        User user = new User();
+
+        user.setId("login-test");
+        user.setPassword(password);
+
+        return user;
+    }
+}
@@ -0,0 +1,151 @@
+package com.beyond.university.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+    로컬 MariaDB 두 개(기본 3306, 복제본 3307)가 실행 중일 때만 수행되는 테스트이다.
+      - 어느 데이터 소스에서 실행되었는지는 SELECT @@port로 확인한다.
+ */
+class ReplicaRoutingDataSourceTests {
+    private static final int PRIMARY_PORT = 3306;
+    private static final int REPLICA_PORT = 3307;
+    private static final int UNAVAILABLE_PORT = 3399;
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @AfterEach
+    void tearDown() {
+
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        setUp(REPLICA_PORT);
+
+        assertThat(portIn(readOnly)).isEqualTo(REPLICA_PORT);
+        assertThat(portIn(readWrite)).isEqualTo(PRIMARY_PORT);
+        // 트랜잭션 밖의 조회는 기본 데이터 소스를 사용한다.
+        assertThat(port()).isEqualTo(PRIMARY_PORT);
+    }
+
+    @Test
+    void stickyRequestReadsFromPrimary() {
+        setUp(REPLICA_PORT);
+
+        ReadYourWrites.stick();
+
+        assertThat(portIn(readOnly)).isEqualTo(PRIMARY_PORT);
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimary() {
+        setUp(UNAVAILABLE_PORT);
+
+        assertThat(portIn(readOnly)).isEqualTo(PRIMARY_PORT);
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+
+        routingDataSource.checkReplica();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+        assertThat(portIn(readOnly)).isEqualTo(PRIMARY_PORT);
+    }
+
+    // 복제본의 커넥션 풀이 가득 차서 시간이 초과된 경우는 복제본의 장애로 처리하지 않는다.
+    @Test
+    void poolTimeoutDoesNotMarkReplicaUnavailable() throws SQLException {
+        HikariConfig config = new HikariConfig();
+
+        config.setJdbcUrl("jdbc:mariadb://localhost:" + REPLICA_PORT + "/web?connectTimeout=1000");
+        config.setUsername("root");
+        config.setPassword("9320");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250);
+        config.setInitializationFailTimeout(-1);
+
+        try (HikariDataSource replica = new HikariDataSource(config)) {
+            setUp(replica, REPLICA_PORT);
+
+            // 하나뿐인 연결을 점유한다.
+            try (Connection ignored = replica.getConnection()) {
+                assertThatThrownBy(() -> portIn(readOnly))
+                        .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+                assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+            }
+
+            assertThat(portIn(readOnly)).isEqualTo(REPLICA_PORT);
+        }
+    }
+
+    private void setUp(int replicaPort) {
+
+        setUp(dataSource(replicaPort), replicaPort);
+    }
+
+    private void setUp(DataSource replica, int replicaPort) {
+        DataSource primary = dataSource(PRIMARY_PORT);
+
+        assumeTrue(isAvailable(primary), "Primary database is not available");
+        assumeTrue(replicaPort == UNAVAILABLE_PORT || isAvailable(replica), "Replica database is not available");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, 1, new SimpleMeterRegistry());
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    // 트랜잭션 안에서 조회한 포트를 반환하는 메소드
+    private int portIn(TransactionTemplate transactionTemplate) {
+        Integer port = transactionTemplate.execute(status -> port());
+
+        return port;
+    }
+
+    private int port() {
+
+        return jdbcTemplate.queryForObject("SELECT @@port", Integer.class);
+    }
+
+    private static DataSource dataSource(int port) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:mariadb://localhost:" + port + "/web?connectTimeout=1000", "root", "9320");
+
+        dataSource.setDriverClassName("org.mariadb.jdbc.Driver");
+
+        return dataSource;
+    }
+
+    private static boolean isAvailable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.department.model.mapper.DepartmentMapper;
+import com.beyond.university.department.model.vo.Department;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    학과 캐시 벤치마크
+      - 로컬 MariaDB와 Redis가 필요하기 때문에 명시적으로 실행할 때만 수행된다.
+        ./mvnw test -Dtest=DepartmentCacheBenchmarkTests -Dbenchmark=true
+      - 같은 조회 부하(동시 작업 64개, 학과 번호 무작위)에서 캐시를 거친 경우와 DB를 직접 조회한 경우의
+        DB 쿼리 수(mybatis.statement 타이머)와 초당 DB 쿼리 수를 비교한다.
+      - 캐시를 거친 경우에는 10ms마다 학과 하나를 변경된 것으로 처리(evict)해서 캐시가 계속 다시 채워지도록 한다.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DepartmentCacheBenchmarkTests {
+    private static final int WORKERS = 64;
+    private static final int LOOKUPS_PER_WORKER = 5_000;
+    private static final String STATEMENT = "selectDepartmentByNo";
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentMapper departmentMapper;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void databaseQueriesWithAndWithoutCache() throws Exception {
+        List<String> deptNos = jdbcTemplate.queryForList("SELECT department_no FROM department", String.class);
+
+        assertThat(deptNos).isNotEmpty();
+
+        redisTemplate.delete(deptNos.stream().map(deptNo -> "department:" + deptNo).toList());
+
+        long direct = run("direct", deptNos, departmentMapper::selectDepartmentByNo);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong evictions = new AtomicLong();
+        // 조회 작업(가상 스레드)이 캐리어 스레드를 모두 점유해도 제때 실행되도록 플랫폼 스레드를 사용한다.
+        Thread evictor = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                String deptNo = deptNos.get(ThreadLocalRandom.current().nextInt(deptNos.size()));
+
+                departmentCache.evict(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, deptNo, null));
+                evictions.incrementAndGet();
+
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long cached;
+
+        try {
+            cached = run("cached", deptNos, departmentService::getDepartmentByNo);
+        } finally {
+            running.set(false);
+            evictor.join();
+        }
+
+        System.out.printf("[cached] evictions=%d%n", evictions.get());
+
+        assertThat(cached).isLessThan(direct);
+    }
+
+    // 변경되지 않은 학과는 DB에서 조회한 후 L2에 저장되어야 한다. (레디스에 저장 스크립트가 없는 상태에서도)
+    @Test
+    void freshFillIsStored() {
+        List<String> deptNos = jdbcTemplate.queryForList("SELECT department_no FROM department LIMIT 3", String.class);
+        String deptNo = deptNos.get(0);
+
+        deptNos.forEach(no -> departmentCache.evict(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, no, null)));
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+
+            return null;
+        });
+
+        assertThat(departmentCache.get(deptNo, departmentMapper::selectDepartmentByNo)).isPresent();
+        assertThat(redisTemplate.hasKey("department:" + deptNo)).isTrue();
+
+        Map<String, Department> loaded = departmentCache.getAll(Set.copyOf(deptNos.subList(1, deptNos.size())),
+                missing -> departmentMapper.selectDepartmentsByNos(missing).stream()
+                        .collect(Collectors.toMap(Department::getNo, Function.identity())));
+
+        assertThat(loaded).containsOnlyKeys(deptNos.subList(1, deptNos.size()));
+        assertThat(redisTemplate.countExistingKeys(deptNos.stream().map(no -> "department:" + no).toList()))
+                .isEqualTo(deptNos.size());
+
+        deptNos.forEach(no -> departmentCache.evict(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, no, null)));
+    }
+
+    // 다른 노드에서 학과가 변경(L2 버전 증가)되는 동안 DB에서 조회한 변경 전 학과는 L2에 저장되지 않아야 한다.
+    @Test
+    void staleFillIsRejected() {
+        String deptNo = jdbcTemplate.queryForObject("SELECT department_no FROM department LIMIT 1", String.class);
+        String key = "department:" + deptNo;
+
+        departmentCache.evict(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, deptNo, null));
+
+        Optional<Department> loaded = departmentCache.get(deptNo, no -> {
+            Department stale = departmentMapper.selectDepartmentByNo(no).orElseThrow();
+
+            // 조회가 끝나기 전에 다른 노드가 학과를 변경하고 캐시를 제거한 상황
+            redisTemplate.opsForValue().increment("department-version:" + no);
+            redisTemplate.delete(key);
+
+            return Optional.of(stale);
+        });
+
+        assertThat(loaded).isPresent();
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+
+        departmentCache.evict(new DepartmentChangedEvent(DepartmentChangedEvent.Type.UPDATED, deptNo, null));
+    }
+
+    // 모든 작업이 끝날 때까지 걸린 시간과 실행된 DB 쿼리 수를 출력하고 DB 쿼리 수를 반환하는 메소드
+    private long run(String name, List<String> deptNos, Consumer<String> lookup) {
+        long queriesBefore = queries();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < WORKERS; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < LOOKUPS_PER_WORKER; j++) {
+                        lookup.accept(deptNos.get(ThreadLocalRandom.current().nextInt(deptNos.size())));
+                    }
+                });
+            }
+        }
+
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long lookups = (long) WORKERS * LOOKUPS_PER_WORKER;
+        long queries = queries() - queriesBefore;
+
+        System.out.printf("[%s] lookups=%d, elapsed=%dms, lookups/s=%d, db queries=%d, db queries/s=%d%n",
+                name, lookups, elapsedMillis, lookups * 1000 / elapsedMillis, queries, queries * 1000 / elapsedMillis);
+
+        return queries;
+    }
+
+    private long queries() {
+
+        return meterRegistry.find("mybatis.statement").timers().stream()
+                .filter(timer -> timer.getId().getTag("statement").endsWith(STATEMENT))
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
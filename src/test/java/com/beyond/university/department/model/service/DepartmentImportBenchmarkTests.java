@@ -0,0 +1,176 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.common.id.IdAllocator;
+import com.beyond.university.common.id.IdAllocatorImpl;
+import com.beyond.university.common.util.RecordFormat;
+import com.beyond.university.department.model.dto.DepartmentImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    학과 대량 등록 벤치마크 (100,000행)
+      - 로컬 MariaDB와 Redis가 필요하기 때문에 명시적으로 실행할 때만 수행된다.
+        ./mvnw test -Dtest=DepartmentImportBenchmarkTests -Dbenchmark=true
+      - 운영 데이터와 섞이지 않도록 별도의 스키마(web_benchmark)와 학과 번호 시퀀스(benchmark-department)를 사용한다.
+      - 요청 본문은 메모리에 만들지 않고 한 줄씩 생성해서 전달한다.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DepartmentImportBenchmarkTests {
+    private static final int ROWS = 100_000;
+    private static final String NAME_PREFIX = "bench-";
+    private static final String SEQUENCE_PREFIX = "benchmark-";
+    private static final String SERVER_URL = "jdbc:mariadb://localhost:3306/";
+    private static final String SCHEMA = "web_benchmark";
+
+    @Autowired
+    private DepartmentImportService departmentImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @TestConfiguration
+    static class BenchmarkSequenceConfig {
+        // 학과 번호를 운영 시퀀스("sequence:department")가 아닌 벤치마크 전용 시퀀스에서 발급한다.
+        @Bean
+        @Primary
+        IdAllocator benchmarkIdAllocator(IdAllocatorImpl idAllocator) {
+
+            return new IdAllocator() {
+                @Override
+                public long next(String sequence, LongSupplier seed) {
+
+                    return idAllocator.next(SEQUENCE_PREFIX + sequence, seed);
+                }
+
+                @Override
+                public long[] next(String sequence, int count, LongSupplier seed) {
+
+                    return idAllocator.next(SEQUENCE_PREFIX + sequence, count, seed);
+                }
+            };
+        }
+    }
+
+    // 애플리케이션 컨텍스트가 시작되기 전에 운영 스키마(web)와 같은 구조의 빈 테이블을 가진 벤치마크 스키마를 만든다.
+    @DynamicPropertySource
+    static void benchmarkSchema(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(SERVER_URL, "root", "9320");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + SCHEMA + " CHARACTER SET utf8mb4");
+
+            for (String table : new String[]{"department", "subject"}) {
+                statement.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + "." + table + " LIKE web." + table);
+            }
+        }
+
+        registry.add("spring.datasource.url", () -> SERVER_URL + SCHEMA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE department");
+        redisTemplate.delete("sequence:" + SEQUENCE_PREFIX + "department");
+    }
+
+    @Test
+    void importNdjson() {
+        Iterator<String> lines = IntStream.rangeClosed(1, ROWS)
+                .mapToObj(i -> String.format(
+                        "{\"name\":\"%s%06d\",\"category\":\"공학\",\"openYn\":\"Y\",\"capacity\":%d}%n",
+                        NAME_PREFIX, i, i % 100))
+                .iterator();
+
+        run("NDJSON", lines, RecordFormat.NDJSON);
+    }
+
+    @Test
+    void importCsv() {
+        Iterator<String> lines = IntStream.rangeClosed(0, ROWS)
+                .mapToObj(i -> i == 0
+                        ? String.format("name,category,openYn,capacity%n")
+                        : String.format("%s%06d,공학,Y,%d%n", NAME_PREFIX, i, i % 100))
+                .iterator();
+
+        run("CSV", lines, RecordFormat.CSV);
+    }
+
+    private void run(String name, Iterator<String> lines, RecordFormat format) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+
+        DepartmentImportResult result = departmentImportService.importDepartments(
+                new BufferedReader(new LineReader(lines)), format);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        System.out.printf("[%s] rows=%d, imported=%d, elapsed=%dms, rows/s=%d, heap delta=%dKB%n",
+                name, result.getTotal(), result.getImported(), elapsedMillis,
+                result.getImported() * 1000 / Math.max(elapsedMillis, 1), (usedAfter - usedBefore) / 1024);
+
+        assertThat(result.getTotal()).isEqualTo(ROWS);
+        assertThat(result.getImported()).isEqualTo(ROWS);
+        assertThat(result.getFailed()).isZero();
+    }
+
+    // 필요할 때마다 다음 줄을 만들어서 반환하는 Reader
+    private static final class LineReader extends Reader {
+        private final Iterator<String> lines;
+        private String current = "";
+        private int position;
+
+        private LineReader(Iterator<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            while (position == current.length()) {
+                if (!lines.hasNext()) {
+                    return -1;
+                }
+
+                current = lines.next();
+                position = 0;
+            }
+
+            int count = Math.min(length, current.length() - position);
+
+            current.getChars(position, position + count, buffer, offset);
+            position += count;
+
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.common.model.dto.KeysetCursor;
+import com.beyond.university.common.model.vo.PagedRow;
+import com.beyond.university.department.model.mapper.DepartmentMapper;
+import com.beyond.university.department.model.vo.Department;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    학과 페이징 벤치마크 (100,000행)
+      - 로컬 MariaDB와 Redis가 필요하기 때문에 명시적으로 실행할 때만 수행된다.
+        ./mvnw test -Dtest=DepartmentPagingBenchmarkTests -Dbenchmark=true
+      - 운영 데이터와 섞이지 않도록 별도의 스키마(web_benchmark)를 사용한다.
+      - 같은 페이지(1, 500, 5000 페이지, 페이지당 10행)를 OFFSET 페이징과 키셋(커서) 페이징으로 조회한 시간을 비교한다.
+      - 정렬 키(학과 이름, 학과 번호)에 인덱스가 없는 경우와 있는 경우를 각각 측정한다.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DepartmentPagingBenchmarkTests {
+    private static final int ROWS = 100_000;
+    private static final int NUM_OF_ROWS = 10;
+    private static final int[] PAGES = {1, 500, 5_000};
+    private static final int REPETITIONS = 50;
+    private static final String SERVER_URL = "jdbc:mariadb://localhost:3306/";
+    private static final String SCHEMA = "web_benchmark";
+    private static final String INDEX = "idx_department_name_no";
+
+    @Autowired
+    private DepartmentMapper departmentMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 애플리케이션 컨텍스트가 시작되기 전에 운영 스키마(web)와 같은 구조의 빈 테이블을 가진 벤치마크 스키마를 만든다.
+    @DynamicPropertySource
+    static void benchmarkSchema(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(SERVER_URL, "root", "9320");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + SCHEMA + " CHARACTER SET utf8mb4");
+
+            for (String table : new String[]{"department", "subject"}) {
+                statement.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + "." + table + " LIKE web." + table);
+            }
+        }
+
+        registry.add("spring.datasource.url", () -> SERVER_URL + SCHEMA);
+    }
+
+    // 이름이 같은 학과가 있도록 (100,000행에 이름 1,000종류) 학과 번호 순서와 다른 순서의 이름을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE TABLE department");
+        jdbcTemplate.update("""
+                INSERT INTO department (department_no, department_name, category, open_yn, capacity)
+                SELECT LPAD(seq, 6, '0'), CONCAT('bench-', LPAD(MOD(seq * 7919, 1000), 4, '0')), '공학', 'Y', MOD(seq, 100)
+                FROM seq_1_to_%d
+                """.formatted(ROWS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + INDEX + " ON department");
+        jdbcTemplate.execute("TRUNCATE TABLE department");
+    }
+
+    @Test
+    void offsetAndKeysetPaging() {
+        run("no index");
+
+        jdbcTemplate.execute("CREATE INDEX " + INDEX + " ON department (department_name, department_no)");
+        jdbcTemplate.execute("ANALYZE TABLE department");
+
+        run("index(department_name, department_no)");
+    }
+
+    private void run(String name) {
+        for (int page : PAGES) {
+            int offset = (page - 1) * NUM_OF_ROWS;
+            // 클라이언트가 이전 페이지의 마지막 행으로 받은 커서 (첫 페이지는 커서가 없다.)
+            KeysetCursor cursor = offset == 0 ? null : cursorBefore(offset);
+
+            List<Department> byOffset = measure(name, "offset", page, () ->
+                    departmentMapper.selectPage(null, false, offset, NUM_OF_ROWS, null).stream()
+                            .map(PagedRow::getItem)
+                            .toList());
+            List<Department> byKeyset = measure(name, "keyset", page, () ->
+                    departmentMapper.selectAllAfter(null, cursor, NUM_OF_ROWS, null));
+
+            assertThat(byKeyset).extracting(Department::getNo)
+                    .containsExactlyElementsOf(byOffset.stream().map(Department::getNo).toList());
+        }
+    }
+
+    private KeysetCursor cursorBefore(int offset) {
+        Department last = departmentMapper.selectPage(null, false, offset - 1, 1, null).get(0).getItem();
+
+        return new KeysetCursor(last.getName(), last.getNo());
+    }
+
+    // 한 번 실행해서 캐시(버퍼 풀)를 채운 후에 반복 실행한 평균 시간을 출력하는 메소드
+    private List<Department> measure(String name, String mode, int page, Supplier<List<Department>> query) {
+        List<Department> rows = query.get();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < REPETITIONS; i++) {
+            query.get();
+        }
+
+        long elapsedMicros = (System.nanoTime() - start) / 1_000 / REPETITIONS;
+
+        System.out.printf("[%s] %s page=%d, rows=%d, avg=%.2fms%n", name, mode, page, rows.size(), elapsedMicros / 1000.0);
+
+        assertThat(rows).hasSize(NUM_OF_ROWS);
+
+        return rows;
+    }
+}
@@ -0,0 +1,154 @@
+package com.beyond.university.department.model.service;
+
+import com.beyond.university.department.model.vo.Department;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    학과 수정/삭제 벤치마크
+      - 로컬 MariaDB와 Redis가 필요하기 때문에 명시적으로 실행할 때만 수행된다.
+        ./mvnw test -Dtest=DepartmentWriteBenchmarkTests -Dbenchmark=true
+      - 운영 데이터와 섞이지 않도록 별도의 스키마(web_benchmark)를 사용한다.
+      - 학과 하나를 수정/삭제하는 서비스 호출의 지연 시간(평균, p50, p99)을 비교한다.
+        1. read + write : 이전 방식 (학과를 조회해서 없으면 404, 있으면 수정/삭제)
+        2. single statement : If-Match가 없는 경우 (UPDATE의 영향받은 행 수, DELETE ... RETURNING)
+        3. If-Match : 기본 데이터 소스에서 현재 학과를 조회한 후 조건부로 수정/삭제
+      - 변경 이벤트(캐시 제거 등)의 처리 시간도 포함된다.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DepartmentWriteBenchmarkTests {
+    private static final int ROWS = 2_000;
+    private static final String SERVER_URL = "jdbc:mariadb://localhost:3306/";
+    private static final String SCHEMA = "web_benchmark";
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 애플리케이션 컨텍스트가 시작되기 전에 운영 스키마(web)와 같은 구조의 빈 테이블을 가진 벤치마크 스키마를 만든다.
+    @DynamicPropertySource
+    static void benchmarkSchema(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(SERVER_URL, "root", "9320");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + SCHEMA + " CHARACTER SET utf8mb4");
+
+            for (String table : new String[]{"department", "subject"}) {
+                statement.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + "." + table + " LIKE web." + table);
+            }
+        }
+
+        registry.add("spring.datasource.url", () -> SERVER_URL + SCHEMA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE department");
+    }
+
+    @Test
+    void updateLatency() {
+        List<String> deptNos = seed();
+
+        // JIT 컴파일과 연결 풀이 준비된 후에 측정하도록 먼저 한 번씩 실행한다.
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+            String name = "bench-r" + round + "-";
+
+            run("update: read + write", deptNos, deptNo -> {
+                departmentService.getDepartmentByNo(deptNo).orElseThrow();
+
+                assertThat(departmentService.update(changed(deptNo, name + "a"))).isTrue();
+            }, print);
+
+            run("update: single statement", deptNos, deptNo ->
+                    assertThat(departmentService.update(changed(deptNo, name + "b"))).isTrue(), print);
+
+            run("update: If-Match", deptNos, deptNo -> {
+                Department current = departmentService.getCurrentDepartmentByNo(deptNo).orElseThrow();
+
+                assertThat(departmentService.updateIfUnchanged(changed(deptNo, name + "c"), current)).isTrue();
+            }, print);
+        }
+    }
+
+    @Test
+    void deleteLatency() {
+        for (int round = 0; round < 2; round++) {
+            boolean print = round == 1;
+
+            run("delete: read + write", seed(), deptNo -> {
+                departmentService.getDepartmentByNo(deptNo).orElseThrow();
+
+                assertThat(departmentService.delete(deptNo)).isPresent();
+            }, print);
+
+            run("delete: single statement", seed(), deptNo ->
+                    assertThat(departmentService.delete(deptNo)).isPresent(), print);
+
+            run("delete: If-Match", seed(), deptNo -> {
+                Department current = departmentService.getCurrentDepartmentByNo(deptNo).orElseThrow();
+
+                assertThat(departmentService.deleteIfUnchanged(current)).isTrue();
+            }, print);
+        }
+    }
+
+    // 학과를 하나씩 순서대로 수정/삭제하고 호출마다 걸린 시간으로 평균, p50, p99를 출력하는 메소드
+    private static void run(String name, List<String> deptNos, Consumer<String> write, boolean print) {
+        long[] elapsedNanos = new long[deptNos.size()];
+        long start = System.nanoTime();
+
+        for (int i = 0; i < elapsedNanos.length; i++) {
+            long callStart = System.nanoTime();
+
+            write.accept(deptNos.get(i));
+            elapsedNanos[i] = System.nanoTime() - callStart;
+        }
+
+        long totalNanos = System.nanoTime() - start;
+
+        Arrays.sort(elapsedNanos);
+
+        if (print) {
+            System.out.printf("[%s] calls=%d, avg=%.2fms, p50=%.2fms, p99=%.2fms%n",
+                    name, elapsedNanos.length, totalNanos / 1_000_000.0 / elapsedNanos.length,
+                    elapsedNanos[elapsedNanos.length / 2] / 1_000_000.0,
+                    elapsedNanos[(int) (elapsedNanos.length * 0.99)] / 1_000_000.0);
+        }
+    }
+
+    private List<String> seed() {
+        jdbcTemplate.execute("TRUNCATE TABLE department");
+        jdbcTemplate.update("""
+                INSERT INTO department (department_no, department_name, category, open_yn, capacity)
+                SELECT LPAD(seq, 6, '0'), CONCAT('bench-', seq), '공학', 'Y', MOD(seq, 100)
+                FROM seq_1_to_%d
+                """.formatted(ROWS));
+
+        return jdbcTemplate.queryForList("SELECT department_no FROM department ORDER BY department_no", String.class);
+    }
+
+    private static Department changed(String deptNo, String name) {
+
+        return new Department(deptNo, name, "공학", "N", 50, null, null);
+    }
+}
@@ -0,0 +1,143 @@
+package com.beyond.university.subject.model.service;
+
+import com.beyond.university.common.exception.UniversityException;
+import com.beyond.university.department.event.DepartmentChangedEvent;
+import com.beyond.university.subject.model.mapper.SubjectMapper;
+import com.beyond.university.subject.model.vo.Subject;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+    DB 없이 SubjectMapper를 대신하는 목(mock) 객체로 스냅샷을 만들어서 선수 과목 그래프를 확인하는 테스트이다.
+ */
+class PrerequisiteGraphTests {
+    private final SubjectMapper subjectMapper = mock(SubjectMapper.class);
+
+    @Test
+    void prerequisitesFollowTheChain() {
+        PrerequisiteGraph graph = graph(List.of(
+                subject("C1", "001", null),
+                subject("C2", "001", "C1"),
+                subject("C3", "001", "C2")
+        ));
+
+        assertThat(graph.prerequisites("C3")).extracting(Subject::getNo).containsExactly("C2", "C1");
+        assertThat(graph.prerequisites("C1")).isEmpty();
+        assertThat(graph.dependents("C1", false)).extracting(Subject::getNo).containsExactly("C2");
+        assertThat(graph.dependents("C1", true)).extracting(Subject::getNo).containsExactly("C2", "C3");
+        assertThat(graph.studyPath("001")).extracting(Subject::getNo).containsExactly("C1", "C2", "C3");
+    }
+
+    @Test
+    void cycleIsRejected() {
+        PrerequisiteGraph graph = graph(List.of(
+                subject("C1", "001", "C3"),
+                subject("C2", "001", "C1"),
+                subject("C3", "001", "C2")
+        ));
+
+        assertThatThrownBy(() -> graph.prerequisites("C1"))
+                .isInstanceOf(UniversityException.class)
+                .extracting("type").isEqualTo("PREREQUISITE_CYCLE");
+        assertThatThrownBy(() -> graph.studyPath("001"))
+                .isInstanceOf(UniversityException.class)
+                .extracting("type").isEqualTo("PREREQUISITE_CYCLE");
+        // 순환 안에서도 의존 과목은 한 번씩만 반환한다.
+        assertThat(graph.dependents("C1", true)).extracting(Subject::getNo).containsExactly("C2", "C3");
+    }
+
+    @Test
+    void studyPathIncludesPrerequisitesOfOtherDepartments() {
+        PrerequisiteGraph graph = graph(List.of(
+                subject("C1", "001", null),
+                subject("C2", "001", "C1"),
+                subject("C3", "002", "C2"),
+                subject("C4", "002", null)
+        ));
+
+        List<String> path = graph.studyPath("002").stream().map(Subject::getNo).toList();
+
+        assertThat(path).containsExactlyInAnyOrder("C1", "C2", "C3", "C4");
+        assertThat(path.indexOf("C1")).isLessThan(path.indexOf("C2"));
+        assertThat(path.indexOf("C2")).isLessThan(path.indexOf("C3"));
+        assertThat(graph.dependents("C2", false)).extracting(Subject::getNo).containsExactly("C3");
+    }
+
+    @Test
+    void unknownSubjects() {
+        PrerequisiteGraph graph = graph(List.of(
+                subject("C1", "001", null),
+                // 선수 과목이 과목 테이블에 없으면 선수 과목이 없는 것으로 처리한다.
+                subject("C2", "001", "C9")
+        ));
+
+        assertThatThrownBy(() -> graph.prerequisites("C9"))
+                .isInstanceOf(UniversityException.class)
+                .extracting("type").isEqualTo("SUBJECT_NOT_FOUND");
+        assertThatThrownBy(() -> graph.dependents("C9", true))
+                .isInstanceOf(UniversityException.class)
+                .extracting("type").isEqualTo("SUBJECT_NOT_FOUND");
+        assertThat(graph.prerequisites("C2")).isEmpty();
+        assertThat(graph.studyPath("999")).isEmpty();
+    }
+
+    // 검증(verify)이 DB를 조회하는 동안 학과가 삭제되어도, 검증이 조회한 이전 내용이 삭제를 반영한 스냅샷을 덮어쓰지 않아야 한다.
+    @Test
+    void verifyDoesNotOverwriteNewerSnapshot() throws InterruptedException {
+        List<Subject> subjects = List.of(subject("C1", "001", null), subject("C2", "002", "C1"));
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        PrerequisiteGraph graph = graph(subjects);
+
+        // 검증은 학과(002)가 삭제되기 전의 과목 목록을 조회한다.
+        when(subjectMapper.selectAll()).thenAnswer(invocation -> {
+            querying.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+
+            return subjects;
+        });
+        when(subjectMapper.selectAllByDeptNo(eq("002"), any(RowBounds.class))).thenReturn(List.of());
+
+        Thread verifier = Thread.ofPlatform().start(graph::verify);
+
+        assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread deleter = Thread.ofPlatform().start(() ->
+                graph.onDepartmentChanged(new DepartmentChangedEvent(DepartmentChangedEvent.Type.DELETED, "002", null)));
+
+        Thread.sleep(100);
+        proceed.countDown();
+        verifier.join();
+        deleter.join();
+
+        assertThat(graph.studyPath("002")).isEmpty();
+        assertThat(graph.dependents("C1", true)).isEmpty();
+    }
+
+    private PrerequisiteGraph graph(List<Subject> subjects) {
+        PrerequisiteGraph graph = new PrerequisiteGraph(subjectMapper);
+
+        ReflectionTestUtils.setField(graph, "enabled", true);
+        when(subjectMapper.selectAll()).thenReturn(subjects);
+        graph.load();
+
+        return graph;
+    }
+
+    private static Subject subject(String no, String deptNo, String preattendingNo) {
+
+        return new Subject(no, deptNo, preattendingNo, "과목" + no, "전공선택");
+    }
+}